@@ -0,0 +1,83 @@
+package com.skillmatrix.controller;
+
+import com.skillmatrix.dto.AttemptSummary;
+import com.skillmatrix.entity.AssessmentAttempt;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListingRowBenchmark {
+    @Param({"100", "1000"})
+    int rows;
+
+    long[] ids;
+    String[] names;
+    int[] scores;
+    LocalDateTime now;
+    JsonMapper mapper;
+
+    @Setup
+    public void setUp() {
+        ids = new long[rows];
+        names = new String[rows];
+        scores = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            ids[i] = i + 1;
+            names[i] = "Component " + (i % 40);
+            scores[i] = i % 10;
+        }
+        now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        mapper = JsonMapper.builder().build();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> mapRows() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> m = new HashMap<>();
+            m.put("id", ids[i]);
+            m.put("assessmentId", ids[i]);
+            m.put("componentName", names[i]);
+            m.put("techStack", "Java");
+            m.put("level", scores[i] % 5 + 1);
+            m.put("score", scores[i]);
+            m.put("totalQuestions", 10);
+            m.put("status", AssessmentAttempt.AttemptStatus.GRADED.name());
+            m.put("passed", scores[i] >= 7);
+            m.put("startedAt", now);
+            m.put("completedAt", now);
+            result.add(m);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<AttemptSummary> recordRows() {
+        List<AttemptSummary> result = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            result.add(new AttemptSummary(ids[i], ids[i], ids[i], names[i], "Java", scores[i] % 5 + 1, scores[i], 10,
+                    AssessmentAttempt.AttemptStatus.GRADED, scores[i] >= 7, now, now));
+        }
+        return result;
+    }
+
+    /** Response bytes as the message converter writes them; compare gc.alloc.rate.norm for bytes per request. */
+    @Benchmark
+    public byte[] mapRowsJson() {
+        return mapper.writeValueAsBytes(mapRows());
+    }
+
+    @Benchmark
+    public byte[] recordRowsJson() {
+        return mapper.writeValueAsBytes(recordRows());
+    }
+}
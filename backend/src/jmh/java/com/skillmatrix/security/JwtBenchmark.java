@@ -0,0 +1,36 @@
+package com.skillmatrix.security;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+    JwtUtil jwtUtil;
+    String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil("benchmark-secret-key-at-least-256-bits-long-000000", 86_400_000L, 10_000);
+        token = jwtUtil.generateToken("dev@example.com", "DEVELOPER", 42L);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("dev@example.com", "DEVELOPER", 42L);
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> authenticateCached() {
+        return jwtUtil.authenticate(token);
+    }
+}
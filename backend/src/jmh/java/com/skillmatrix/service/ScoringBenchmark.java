@@ -0,0 +1,37 @@
+package com.skillmatrix.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScoringBenchmark {
+    @Param({"10", "50"})
+    int questions;
+
+    String[] given;
+    String[] correct;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        given = new String[questions];
+        correct = new String[questions];
+        for (int i = 0; i < questions; i++) {
+            correct[i] = "Option " + random.nextInt(4);
+            given[i] = random.nextBoolean() ? correct[i].toUpperCase() : "Option " + random.nextInt(4);
+        }
+    }
+
+    @Benchmark
+    public boolean scoreAndFinalize() {
+        int score = 0;
+        for (int i = 0; i < questions; i++) {
+            if (AssessmentService.isCorrectChoice(given[i], correct[i])) score++;
+        }
+        return AssessmentService.isPassing(score, questions, 70);
+    }
+}
@@ -0,0 +1,89 @@
+package com.skillmatrix.service;
+
+import com.skillmatrix.dto.SkillsMatrix;
+import com.skillmatrix.event.SkillLevelChangedEvent;
+import com.skillmatrix.repository.DeveloperLevelRepository;
+import com.skillmatrix.repository.TeamRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SkillsMatrixBenchmark {
+    private static final int TEAMS = 10;
+    private static final int PROJECTS_PER_TEAM = 5;
+    private static final int COMPONENTS_PER_PROJECT = 4;
+
+    @Param({"1000", "10000", "100000"})
+    int rows;
+
+    Map<Long, String> teams;
+    List<SkillLevelChangedEvent> levels;
+    int[] currentLevels;
+    SkillsMatrixProjection projection;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        teams = new HashMap<>();
+        for (long t = 1; t <= TEAMS; t++) {
+            teams.put(t, "Team " + t);
+        }
+        int components = TEAMS * PROJECTS_PER_TEAM * COMPONENTS_PER_PROJECT;
+        Random random = new Random(42);
+        levels = new ArrayList<>(rows);
+        for (long id = 1; id <= rows; id++) {
+            long developer = (id - 1) / components + 1;
+            long component = (id - 1) % components + 1;
+            levels.add(row(id, developer, component, 1 + random.nextInt(10)));
+        }
+        currentLevels = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            currentLevels[i] = levels.get(i).level();
+        }
+        projection = new SkillsMatrixProjection(unused(DeveloperLevelRepository.class),
+                unused(TeamRepository.class));
+        projection.rebuild(teams, levels);
+    }
+
+    @Benchmark
+    public SkillsMatrix fullRebuild() {
+        projection.rebuild(teams, levels);
+        return projection.snapshot();
+    }
+
+    @Benchmark
+    public SkillsMatrix incrementalLevelUp() {
+        int i = next++ % rows;
+        SkillLevelChangedEvent existing = levels.get(i);
+        projection.onSkillLevelChanged(row(existing.levelId(), existing.developerId(), existing.componentId(),
+                ++currentLevels[i]));
+        return projection.snapshot();
+    }
+
+    @Benchmark
+    public SkillsMatrix snapshotRead() {
+        return projection.snapshot();
+    }
+
+    /** The projection is fed through rebuild and events here; any repository call fails the run. */
+    private static <T> T unused(Class<T> repository) {
+        return repository.cast(Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[]{repository},
+                (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(repository.getSimpleName() + "." + method.getName());
+                }));
+    }
+
+    private static SkillLevelChangedEvent row(long levelId, long developer, long component, int level) {
+        long project = (component - 1) / COMPONENTS_PER_PROJECT + 1;
+        long team = (project - 1) / PROJECTS_PER_TEAM + 1;
+        return new SkillLevelChangedEvent(levelId, developer, "Developer " + developer, "dev" + developer + "@example.com",
+                component, "Component " + component, "Java", project, "Project " + project,
+                team, "Team " + team, level, LocalDateTime.of(2026, 1, 1, 0, 0));
+    }
+}
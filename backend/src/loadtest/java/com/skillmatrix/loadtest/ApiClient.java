@@ -0,0 +1,119 @@
+package com.skillmatrix.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class ApiClient {
+    private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(1).toNanos() / 1000;
+    private static final Pattern QUESTION = Pattern.compile("\\{[^{}]*\\}");
+
+    record EndpointStats(Histogram latencyMicros, LongAdder errors) {
+    }
+
+    record Question(long id, String type) {
+    }
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final URI baseUrl;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    ApiClient(URI baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    Map<String, EndpointStats> stats() {
+        return stats;
+    }
+
+    String login(String email, String password) throws IOException, InterruptedException {
+        String body = call("login", "/api/auth/login", null,
+                "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}");
+        return stringField(body, "token");
+    }
+
+    long invite(String adminToken, long developerId, long assessmentId) throws IOException, InterruptedException {
+        String body = call("invite", "/api/assessments/invite", adminToken,
+                "{\"developerId\":" + developerId + ",\"assessmentId\":" + assessmentId + "}");
+        return longField(body, "id");
+    }
+
+    String start(String token, long inviteId) throws IOException, InterruptedException {
+        return call("start", "/api/assessments/start/" + inviteId, token, "");
+    }
+
+    String submit(String token, long attemptId, String answersJson) throws IOException, InterruptedException {
+        return call("submit", "/api/assessments/submit/" + attemptId, token, answersJson);
+    }
+
+    void grade(String adminToken, long answerId, boolean correct) throws IOException, InterruptedException {
+        call("grade", "/api/assessments/grade", adminToken,
+                "{\"answerId\":" + answerId + ",\"correct\":" + correct + "}");
+    }
+
+    private String call(String endpoint, String path, String token, String json) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) request.header("Authorization", "Bearer " + token);
+
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint,
+                k -> new EndpointStats(new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3), new LongAdder()));
+        long started = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            endpointStats.errors().increment();
+            throw e;
+        }
+        long micros = (System.nanoTime() - started) / 1000;
+        endpointStats.latencyMicros().recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        if (response.statusCode() / 100 != 2) {
+            endpointStats.errors().increment();
+            throw new IOException(endpoint + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    static List<Question> questions(String startBody) {
+        int from = startBody.indexOf("\"questions\"");
+        List<Question> result = new ArrayList<>();
+        if (from < 0) return result;
+        Matcher m = QUESTION.matcher(startBody);
+        m.region(from, startBody.length());
+        while (m.find()) {
+            String q = m.group();
+            result.add(new Question(longField(q, "id"), stringField(q, "type")));
+        }
+        return result;
+    }
+
+    static long longField(String json, String field) {
+        Matcher m = Pattern.compile("\"" + field + "\"\\s*:\\s*(\\d+)").matcher(json);
+        if (!m.find()) throw new IllegalStateException("Missing " + field + " in " + json);
+        return Long.parseLong(m.group(1));
+    }
+
+    static String stringField(String json, String field) {
+        Matcher m = Pattern.compile("\"" + field + "\"\\s*:\\s*\"([^\"]*)\"").matcher(json);
+        if (!m.find()) throw new IllegalStateException("Missing " + field + " in " + json);
+        return m.group(1);
+    }
+}
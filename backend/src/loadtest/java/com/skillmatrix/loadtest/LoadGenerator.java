@@ -0,0 +1,109 @@
+package com.skillmatrix.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadGenerator {
+    private static final String[] CHOICES = {"A", "B", "C", "D"};
+
+    private final LoadTestConfig config;
+    private final LoadTestSeeder seeder;
+    private final ApiClient api;
+    private final LongAdder completedFlows = new LongAdder();
+    private final LongAdder failedFlows = new LongAdder();
+
+    private LoadTestSeeder.Fixture fixture;
+    private String adminToken;
+
+    LoadGenerator(LoadTestConfig config) {
+        this.config = config;
+        this.seeder = new LoadTestSeeder(config);
+        this.api = new ApiClient(config.baseUrl());
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadGenerator(LoadTestConfig.parse(args)).run();
+    }
+
+    void run() throws Exception {
+        System.out.printf("Seeding %d developers and %d components...%n", config.developers(), config.components());
+        fixture = seeder.seed();
+        adminToken = api.login(LoadTestSeeder.ADMIN_EMAIL, LoadTestSeeder.PASSWORD);
+
+        System.out.printf("Driving %.1f flows/s for %ds against %s%n",
+                config.arrivalsPerSecond(), config.durationSeconds(), config.baseUrl());
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.arrivalsPerSecond());
+        long startedAt = System.nanoTime();
+        long endAt = startedAt + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long next = startedAt; next < endAt; next += intervalNanos) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+                executor.submit(this::flow);
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+        report(elapsedSeconds);
+    }
+
+    private void flow() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<LoadTestSeeder.Developer> developers = fixture.developers();
+        LoadTestSeeder.Developer dev = developers.get(random.nextInt(developers.size()));
+        long assessmentId = fixture.assessmentIds().get(random.nextInt(fixture.assessmentIds().size()));
+        try {
+            String token = api.login(dev.email(), LoadTestSeeder.PASSWORD);
+            long inviteId = api.invite(adminToken, dev.id(), assessmentId);
+            String started = api.start(token, inviteId);
+            long attemptId = ApiClient.longField(started, "attemptId");
+
+            StringBuilder answers = new StringBuilder("[");
+            for (ApiClient.Question q : ApiClient.questions(started)) {
+                if (answers.length() > 1) answers.append(',');
+                String answer = "MCQ".equals(q.type()) ? CHOICES[random.nextInt(CHOICES.length)] : "answer";
+                answers.append("{\"questionId\":").append(q.id()).append(",\"answer\":\"").append(answer).append("\"}");
+            }
+            answers.append(']');
+            String submitted = api.submit(token, attemptId, answers.toString());
+
+            if ("PENDING_REVIEW".equals(ApiClient.stringField(submitted, "status"))) {
+                for (long answerId : seeder.unreviewedAnswerIds(attemptId)) {
+                    api.grade(adminToken, answerId, random.nextBoolean());
+                }
+            }
+            completedFlows.increment();
+        } catch (Exception e) {
+            failedFlows.increment();
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+        }
+    }
+
+    private void report(double elapsedSeconds) throws IOException {
+        Files.createDirectories(config.outputDir());
+        System.out.printf("%nFlows: %d completed, %d failed in %.1fs%n",
+                completedFlows.sum(), failedFlows.sum(), elapsedSeconds);
+        System.out.printf("%-8s %8s %8s %10s %10s %10s %10s%n", "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms");
+        Map<String, ApiClient.EndpointStats> sorted = new TreeMap<>(api.stats());
+        for (Map.Entry<String, ApiClient.EndpointStats> e : sorted.entrySet()) {
+            var h = e.getValue().latencyMicros();
+            System.out.printf("%-8s %8d %8d %10.1f %10.2f %10.2f %10.2f%n", e.getKey(), h.getTotalCount(),
+                    e.getValue().errors().sum(), h.getTotalCount() / elapsedSeconds,
+                    h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(99) / 1000.0,
+                    h.getValueAtPercentile(99.9) / 1000.0);
+            try (PrintStream out = new PrintStream(Files.newOutputStream(config.outputDir().resolve(e.getKey() + ".hgrm")))) {
+                h.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        System.out.printf("%nHdrHistogram percentile distributions (ms) written to %s%n", config.outputDir().toAbsolutePath());
+    }
+}
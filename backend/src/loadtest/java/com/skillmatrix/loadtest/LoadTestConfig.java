@@ -0,0 +1,56 @@
+package com.skillmatrix.loadtest;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+record LoadTestConfig(URI baseUrl, String jdbcUrl, String dbUser, String dbPassword,
+                      int developers, int components, int questionsPerComponent,
+                      double arrivalsPerSecond, int durationSeconds, Path outputDir) {
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int eq = arg.indexOf('=');
+            opts.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        String pgHost = System.getenv().getOrDefault("PGHOST", "localhost");
+        String pgPort = System.getenv().getOrDefault("PGPORT", "5432");
+        String pgDb = System.getenv().getOrDefault("PGDATABASE", "skillmatrix");
+        LoadTestConfig config = new LoadTestConfig(
+                URI.create(opts.getOrDefault("base-url", "http://localhost:8080")),
+                opts.getOrDefault("jdbc-url", "jdbc:postgresql://" + pgHost + ":" + pgPort + "/" + pgDb),
+                opts.getOrDefault("db-user", System.getenv().getOrDefault("PGUSER", "postgres")),
+                opts.getOrDefault("db-password", System.getenv().getOrDefault("PGPASSWORD", "")),
+                Integer.parseInt(opts.getOrDefault("developers", "100")),
+                Integer.parseInt(opts.getOrDefault("components", "10")),
+                Integer.parseInt(opts.getOrDefault("questions-per-component", "30")),
+                Double.parseDouble(opts.getOrDefault("rate", "10")),
+                Integer.parseInt(opts.getOrDefault("duration", "60")),
+                Path.of(opts.getOrDefault("out", "build/reports/loadtest")));
+        config.requireLocal();
+        return config;
+    }
+
+    private void requireLocal() {
+        requireLoopback(baseUrl.getHost(), "base-url");
+        String hostPart = jdbcUrl.replaceFirst("^jdbc:postgresql://", "").replaceFirst("[:/].*$", "");
+        requireLoopback(hostPart, "jdbc-url");
+    }
+
+    private static void requireLoopback(String host, String option) {
+        try {
+            if (!InetAddress.getByName(host).isLoopbackAddress()) {
+                throw new IllegalArgumentException(option + " must point at a local instance, got " + host);
+            }
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException(option + " host cannot be resolved: " + host, e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.skillmatrix.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+class LoadTestSeeder {
+    static final String PASSWORD = "password123";
+    static final String ADMIN_EMAIL = "loadtest-admin@loadtest.local";
+    private static final String TEAM_NAME = "Load Test";
+    private static final int ASSESSMENT_LEVEL = 3;
+    private static final int QUESTIONS_PER_ASSESSMENT = 10;
+
+    record Developer(long id, String email) {
+    }
+
+    record Fixture(List<Developer> developers, List<Long> assessmentIds) {
+    }
+
+    private final LoadTestConfig config;
+
+    LoadTestSeeder(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    Fixture seed() throws SQLException {
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        try (Connection conn = DriverManager.getConnection(config.jdbcUrl(), config.dbUser(), config.dbPassword())) {
+            conn.setAutoCommit(false);
+            long adminId = upsertUser(conn, ADMIN_EMAIL, "Load Test Admin", "ROOT", passwordHash);
+            List<Developer> developers = new ArrayList<>(config.developers());
+            for (int i = 1; i <= config.developers(); i++) {
+                String email = "loadtest-dev-" + i + "@loadtest.local";
+                developers.add(new Developer(upsertUser(conn, email, "Load Test Developer " + i, "DEVELOPER", passwordHash), email));
+            }
+
+            long teamId = findOrInsert(conn, "select id from teams where name = ?", new Object[]{TEAM_NAME},
+                    "insert into teams (name, description, created_at) values (?, ?, ?)",
+                    new Object[]{TEAM_NAME, "Synthetic load test data", now()});
+            long projectId = findOrInsert(conn, "select id from projects where team_id = ? and name = ?", new Object[]{teamId, "Load Test Project"},
+                    "insert into projects (name, description, created_at, team_id) values (?, ?, ?, ?)",
+                    new Object[]{"Load Test Project", "Synthetic load test data", now(), teamId});
+
+            List<Long> assessmentIds = new ArrayList<>(config.components());
+            for (int c = 1; c <= config.components(); c++) {
+                String name = "Load Test Component " + c;
+                Long componentId = findId(conn, "select id from components where project_id = ? and name = ?", projectId, name);
+                if (componentId == null) {
+                    componentId = insert(conn, "insert into components (name, tech_stack, description, created_at, project_id) values (?, ?, ?, ?, ?)",
+                            name, "Java", "Synthetic load test data", now(), projectId);
+                    insertQuestions(conn, componentId);
+                }
+                long componentKey = componentId;
+                assessmentIds.add(findOrInsert(conn, "select id from assessments where component_id = ? and level = ?",
+                        new Object[]{componentKey, ASSESSMENT_LEVEL},
+                        "insert into assessments (component_id, level, pass_mark_percentage, number_of_questions, created_at, created_by) values (?, ?, ?, ?, ?, ?)",
+                        new Object[]{componentKey, ASSESSMENT_LEVEL, 70, QUESTIONS_PER_ASSESSMENT, now(), adminId}));
+            }
+            conn.commit();
+            return new Fixture(developers, assessmentIds);
+        }
+    }
+
+    List<Long> unreviewedAnswerIds(long attemptId) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(config.jdbcUrl(), config.dbUser(), config.dbPassword());
+             PreparedStatement ps = conn.prepareStatement("select id from attempt_answers where attempt_id = ? and reviewed = false")) {
+            ps.setLong(1, attemptId);
+            List<Long> ids = new ArrayList<>();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) ids.add(rs.getLong(1));
+            }
+            return ids;
+        }
+    }
+
+    private void insertQuestions(Connection conn, long componentId) throws SQLException {
+        Array mcqOptions = conn.createArrayOf("text", new String[]{"A", "B", "C", "D"});
+        Array noOptions = conn.createArrayOf("text", new String[0]);
+        try (PreparedStatement q = conn.prepareStatement(
+                "insert into questions (id, question_text, type, difficulty_level, component_id, correct_answer, options, created_at) values (nextval('questions_seq'), ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= config.questionsPerComponent(); i++) {
+                boolean fillIn = i % 5 == 0;
+                q.setString(1, "Synthetic question " + i + " for component " + componentId);
+                q.setString(2, fillIn ? "FILL_IN_BLANK" : "MCQ");
+                q.setInt(3, (i - 1) % ASSESSMENT_LEVEL + 1);
+                q.setLong(4, componentId);
+                q.setString(5, fillIn ? "answer" : "A");
+                q.setArray(6, fillIn ? noOptions : mcqOptions);
+                q.setTimestamp(7, now());
+                q.addBatch();
+            }
+            q.executeBatch();
+        }
+    }
+
+    private long upsertUser(Connection conn, String email, String fullName, String role, String passwordHash) throws SQLException {
+        Long id = findId(conn, "select id from app_users where email = ?", email);
+        if (id != null) return id;
+        return insert(conn, "insert into app_users (email, password, full_name, role, email_verified, active, created_at) values (?, ?, ?, ?, true, true, ?)",
+                email, passwordHash, fullName, role, now());
+    }
+
+    private long findOrInsert(Connection conn, String select, Object[] selectArgs, String insert, Object[] insertArgs) throws SQLException {
+        Long id = findId(conn, select, selectArgs);
+        return id != null ? id : insert(conn, insert, insertArgs);
+    }
+
+    private Long findId(Connection conn, String sql, Object... args) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            bind(ps, args);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : null;
+            }
+        }
+    }
+
+    private long insert(Connection conn, String sql, Object... args) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql, new String[]{"id"})) {
+            bind(ps, args);
+            ps.executeUpdate();
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, Object[] args) throws SQLException {
+        for (int i = 0; i < args.length; i++) {
+            ps.setObject(i + 1, args[i]);
+        }
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
@@ -1,8 +1,10 @@
 package com.skillmatrix.config;
 
 import com.skillmatrix.entity.*;
+import com.skillmatrix.event.ReferenceDataChangedEvent;
 import com.skillmatrix.repository.*;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,12 +25,13 @@ public class DataSeeder implements CommandLineRunner {
     private final AssessmentAttemptRepository attemptRepo;
     private final DeveloperLevelRepository levelRepo;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher events;
 
     public DataSeeder(AppUserRepository userRepo, TeamRepository teamRepo, ProjectRepository projectRepo,
                       ComponentRepository componentRepo, QuestionRepository questionRepo,
                       AssessmentRepository assessmentRepo, AssessmentInviteRepository inviteRepo,
                       AssessmentAttemptRepository attemptRepo, DeveloperLevelRepository levelRepo,
-                      PasswordEncoder passwordEncoder) {
+                      PasswordEncoder passwordEncoder, ApplicationEventPublisher events) {
         this.userRepo = userRepo;
         this.teamRepo = teamRepo;
         this.projectRepo = projectRepo;
@@ -39,6 +42,7 @@ public class DataSeeder implements CommandLineRunner {
         this.attemptRepo = attemptRepo;
         this.levelRepo = levelRepo;
         this.passwordEncoder = passwordEncoder;
+        this.events = events;
     }
 
     @Override
@@ -81,6 +85,7 @@ public class DataSeeder implements CommandLineRunner {
 
         seedAssessmentsAndAttempts(javaBackend, reactFrontend, postgresDb, nodeApi, pythonEtl,
                 admin1, dev1, dev2, dev3, dev4, dev5);
+        events.publishEvent(new ReferenceDataChangedEvent("seed"));
     }
 
     private AppUser createUser(String email, String fullName, AppUser.Role role) {
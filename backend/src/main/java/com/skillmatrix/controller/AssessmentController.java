@@ -1,10 +1,14 @@
 package com.skillmatrix.controller;
 
 import com.skillmatrix.dto.AuthDtos.*;
+import com.skillmatrix.dto.ClaimedAnswer;
+import com.skillmatrix.dto.InviteResult;
 import com.skillmatrix.entity.*;
-import com.skillmatrix.repository.QuestionRepository;
 import com.skillmatrix.service.AssessmentService;
+import com.skillmatrix.service.QuestionPoolIndex;
+import com.skillmatrix.service.ReviewQueue;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,11 +19,14 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/assessments")
 public class AssessmentController {
     private final AssessmentService assessmentService;
-    private final QuestionRepository questionRepo;
+    private final QuestionPoolIndex questionPool;
+    private final ReviewQueue reviewQueue;
 
-    public AssessmentController(AssessmentService assessmentService, QuestionRepository questionRepo) {
+    public AssessmentController(AssessmentService assessmentService, QuestionPoolIndex questionPool,
+                                ReviewQueue reviewQueue) {
         this.assessmentService = assessmentService;
-        this.questionRepo = questionRepo;
+        this.questionPool = questionPool;
+        this.reviewQueue = reviewQueue;
     }
 
     @PostMapping("/invite")
@@ -35,30 +42,46 @@ public class AssessmentController {
         }
     }
 
+    @PostMapping("/invite/bulk")
+    public ResponseEntity<?> createInvites(@RequestBody BulkInviteRequest req) {
+        try {
+            List<InviteResult> results = assessmentService.createInvites(req);
+            Map<String, Object> result = new HashMap<>();
+            result.put("assessmentId", req.assessmentId);
+            result.put("invited", results.stream().filter(r -> r.outcome() == InviteResult.Outcome.INVITED).count());
+            result.put("results", results);
+            return ResponseEntity.ok(result);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @PostMapping("/start/{inviteId}")
     public ResponseEntity<?> startAttempt(@PathVariable Long inviteId, Authentication auth) {
         try {
             Long userId = (Long) auth.getCredentials();
             AssessmentAttempt attempt = assessmentService.startAttempt(inviteId, userId);
 
-            Assessment assessment = attempt.getAssessment();
-            List<Question> questions = questionRepo.findByComponentIdAndDifficultyLevelLessThanEqual(
-                    assessment.getComponent().getId(), assessment.getLevel());
-            Collections.shuffle(questions);
-            int numQ = Math.min(assessment.getNumberOfQuestions(), questions.size());
-            List<Question> selected = questions.subList(0, numQ);
+            List<Question> selected = questionPool.load(attempt.getQuestionIds());
 
             Map<String, Object> result = new HashMap<>();
             result.put("attemptId", attempt.getId());
-            result.put("questions", selected.stream().map(q -> {
-                Map<String, Object> m = new HashMap<>();
-                m.put("id", q.getId());
-                m.put("questionText", q.getQuestionText());
-                m.put("type", q.getType().name());
-                m.put("difficultyLevel", q.getDifficultyLevel());
-                m.put("options", q.getOptions());
-                return m;
-            }).collect(Collectors.toList()));
+            result.put("questions", toQuestionList(selected));
+            return ResponseEntity.ok(result);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/attempts/{attemptId}/questions")
+    public ResponseEntity<?> getAttemptQuestions(@PathVariable Long attemptId, Authentication auth) {
+        try {
+            Long userId = (Long) auth.getCredentials();
+            List<Question> questions = assessmentService.getAttemptQuestions(attemptId, userId);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("attemptId", attemptId);
+            result.put("questions", toQuestionList(questions));
             return ResponseEntity.ok(result);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -84,12 +107,71 @@ public class AssessmentController {
     }
 
     @PostMapping("/grade")
-    public ResponseEntity<?> gradeAnswer(@RequestBody GradeAnswerRequest req) {
+    @PreAuthorize("hasAnyRole('ROOT', 'TEAM_ADMIN')")
+    public ResponseEntity<?> gradeAnswer(@RequestBody GradeAnswerRequest req, Authentication auth) {
         try {
-            assessmentService.gradeAnswer(req);
+            assessmentService.gradeAnswer(req, (Long) auth.getCredentials());
             return ResponseEntity.ok(Map.of("success", true));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    @PostMapping("/grade/{attemptId}")
+    @PreAuthorize("hasAnyRole('ROOT', 'TEAM_ADMIN')")
+    public ResponseEntity<?> gradeAnswers(@PathVariable Long attemptId, @RequestBody List<GradeAnswerRequest> grades,
+                                          Authentication auth) {
+        try {
+            AssessmentAttempt attempt = assessmentService.gradeAnswers(attemptId, grades, (Long) auth.getCredentials());
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("graded", grades.size());
+            result.put("id", attempt.getId());
+            result.put("score", attempt.getScore());
+            result.put("totalQuestions", attempt.getTotalQuestions());
+            result.put("passed", attempt.isPassed());
+            result.put("status", attempt.getStatus().name());
+            return ResponseEntity.ok(result);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/reviews/claim")
+    @PreAuthorize("hasAnyRole('ROOT', 'TEAM_ADMIN')")
+    public ResponseEntity<?> claimReviews(@RequestParam(required = false) Integer limit, Authentication auth) {
+        int batch = limit == null || limit <= 0 ? ReviewQueue.DEFAULT_BATCH : Math.min(limit, ReviewQueue.MAX_BATCH);
+        List<ClaimedAnswer> claimed = reviewQueue.claim((Long) auth.getCredentials(), batch);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("items", claimed);
+        result.put("leaseSeconds", reviewQueue.leaseSeconds());
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/reviews/claimed")
+    @PreAuthorize("hasAnyRole('ROOT', 'TEAM_ADMIN')")
+    public ResponseEntity<?> getClaimedReviews(Authentication auth) {
+        return ResponseEntity.ok(reviewQueue.claimedBy((Long) auth.getCredentials()));
+    }
+
+    @PostMapping("/reviews/release")
+    @PreAuthorize("hasAnyRole('ROOT', 'TEAM_ADMIN')")
+    public ResponseEntity<?> releaseReviews(@RequestBody List<Long> answerIds, Authentication auth) {
+        int released = reviewQueue.release((Long) auth.getCredentials(), answerIds);
+        return ResponseEntity.ok(Map.of("released", released));
+    }
+
+    private List<Map<String, Object>> toQuestionList(List<Question> questions) {
+        return questions.stream().map(q -> {
+            Map<String, Object> m = new HashMap<>();
+            m.put("id", q.getId());
+            m.put("questionText", q.getQuestionText());
+            m.put("type", q.getType().name());
+            m.put("difficultyLevel", q.getDifficultyLevel());
+            m.put("options", q.getOptions());
+            return m;
+        }).collect(Collectors.toList());
+    }
 }
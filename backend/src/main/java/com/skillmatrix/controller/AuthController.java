@@ -1,7 +1,10 @@
 package com.skillmatrix.controller;
 
 import com.skillmatrix.dto.AuthDtos.*;
+import com.skillmatrix.security.PasswordHasherBusyException;
 import com.skillmatrix.service.AuthService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -11,6 +14,8 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
+    private static final String BUSY_RETRY_AFTER_SECONDS = "1";
+
     private final AuthService authService;
 
     public AuthController(AuthService authService) {
@@ -39,6 +44,8 @@ public class AuthController {
     public ResponseEntity<?> setPassword(@RequestBody SetPasswordRequest req) {
         try {
             return ResponseEntity.ok(authService.setPassword(req));
+        } catch (PasswordHasherBusyException e) {
+            return busy(e);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -48,6 +55,8 @@ public class AuthController {
     public ResponseEntity<?> login(@RequestBody LoginRequest req) {
         try {
             return ResponseEntity.ok(authService.login(req));
+        } catch (PasswordHasherBusyException e) {
+            return busy(e);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -67,6 +76,8 @@ public class AuthController {
     public ResponseEntity<?> resetPassword(@RequestBody ResetPasswordRequest req) {
         try {
             return ResponseEntity.ok(authService.resetPassword(req));
+        } catch (PasswordHasherBusyException e) {
+            return busy(e);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -80,4 +91,10 @@ public class AuthController {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    private static ResponseEntity<?> busy(PasswordHasherBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, BUSY_RETRY_AFTER_SECONDS)
+                .body(Map.of("error", e.getMessage()));
+    }
 }
@@ -0,0 +1,84 @@
+package com.skillmatrix.controller;
+
+import com.skillmatrix.repository.DeveloperLevelRepository;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+    private static final int FLUSH_EVERY = 500;
+
+    private final DeveloperLevelRepository levelRepo;
+    private final TransactionTemplate readOnlyTx;
+
+    public ExportController(DeveloperLevelRepository levelRepo, PlatformTransactionManager txManager) {
+        this.levelRepo = levelRepo;
+        this.readOnlyTx = new TransactionTemplate(txManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    @GetMapping(value = "/skills-matrix.ndjson", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportSkillsMatrix() {
+        StreamingResponseBody body = out -> readOnlyTx.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try (Stream<DeveloperLevelRepository.MatrixExportRow> rows = levelRepo.streamMatrixRows()) {
+                int written = 0;
+                Iterator<DeveloperLevelRepository.MatrixExportRow> it = rows.iterator();
+                while (it.hasNext()) {
+                    writeRow(writer, it.next());
+                    if (++written % FLUSH_EVERY == 1) writer.flush();
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    private static void writeRow(Writer w, DeveloperLevelRepository.MatrixExportRow r) throws IOException {
+        w.write("{\"developerId\":");
+        w.write(String.valueOf(r.getDeveloperId()));
+        w.write(",\"developerName\":");
+        JsonWriter.writeString(w, r.getDeveloperName());
+        w.write(",\"email\":");
+        JsonWriter.writeString(w, r.getEmail());
+        w.write(",\"componentId\":");
+        w.write(String.valueOf(r.getComponentId()));
+        w.write(",\"componentName\":");
+        JsonWriter.writeString(w, r.getComponentName());
+        w.write(",\"techStack\":");
+        JsonWriter.writeString(w, r.getTechStack());
+        w.write(",\"projectId\":");
+        w.write(String.valueOf(r.getProjectId()));
+        w.write(",\"projectName\":");
+        JsonWriter.writeString(w, r.getProjectName());
+        w.write(",\"teamId\":");
+        w.write(String.valueOf(r.getTeamId()));
+        w.write(",\"teamName\":");
+        JsonWriter.writeString(w, r.getTeamName());
+        w.write(",\"level\":");
+        w.write(String.valueOf(r.getLevel()));
+        w.write(",\"lastLevelUpAt\":");
+        JsonWriter.writeString(w, r.getLastLevelUpAt() != null ? r.getLastLevelUpAt().toString() : null);
+        w.write("}\n");
+    }
+}
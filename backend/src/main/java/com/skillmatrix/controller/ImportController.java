@@ -0,0 +1,99 @@
+package com.skillmatrix.controller;
+
+import com.skillmatrix.dto.ImportSummary;
+import com.skillmatrix.service.ImportFailedException;
+import com.skillmatrix.service.QuestionImporter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+    private final QuestionImporter questionImporter;
+
+    public ImportController(QuestionImporter questionImporter) {
+        this.questionImporter = questionImporter;
+    }
+
+    @PostMapping(value = "/questions", consumes = {"text/csv", "application/x-ndjson"})
+    @PreAuthorize("hasAnyRole('ROOT', 'TEAM_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> importQuestions(@RequestParam(required = false) Long componentId,
+                                                                 HttpServletRequest request) {
+        QuestionImporter.Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? QuestionImporter.Format.CSV : QuestionImporter.Format.NDJSON;
+
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            QuestionImporter.Listener listener = new QuestionImporter.Listener() {
+                @Override
+                public void rowRejected(long line, String message) {
+                    try {
+                        writer.write("{\"event\":\"error\",\"line\":");
+                        writer.write(String.valueOf(line));
+                        writer.write(",\"message\":");
+                        JsonWriter.writeString(writer, message);
+                        writer.write("}\n");
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public void chunkCommitted(ImportSummary progress) {
+                    try {
+                        writeSummary(writer, "progress", progress);
+                        writer.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            };
+
+            try {
+                ImportSummary summary = questionImporter.importQuestions(
+                        new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8), format, componentId,
+                        listener);
+                writeSummary(writer, "done", summary);
+            } catch (ImportFailedException e) {
+                writeFailure(writer, e);
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(new MediaType("application", "x-ndjson", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    private static void writeSummary(Writer w, String event, ImportSummary s) throws IOException {
+        w.write("{\"event\":\"" + event + "\",");
+        writeCounts(w, s);
+    }
+
+    private static void writeFailure(Writer w, ImportFailedException e) throws IOException {
+        w.write("{\"event\":\"failed\",\"message\":");
+        JsonWriter.writeString(w, e.getMessage());
+        w.write(",");
+        writeCounts(w, e.getProgress());
+    }
+
+    private static void writeCounts(Writer w, ImportSummary s) throws IOException {
+        w.write("\"rows\":" + s.rows() + ",\"imported\":" + s.imported() +
+                ",\"duplicates\":" + s.duplicates() + ",\"errors\":" + s.errors() + "}\n");
+    }
+}
@@ -0,0 +1,7 @@
+package com.skillmatrix.dto;
+
+import java.util.List;
+
+public record AdminDashboard(long totalDevelopers, long totalTeams, long totalProjects, long totalAssessments,
+                             long pendingReviews, List<AdminTeamRating> teamRatings) {
+}
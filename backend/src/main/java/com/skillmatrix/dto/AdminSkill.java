@@ -0,0 +1,4 @@
+package com.skillmatrix.dto;
+
+public record AdminSkill(String component, String techStack, int level) {
+}
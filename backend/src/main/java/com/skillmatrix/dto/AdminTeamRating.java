@@ -0,0 +1,6 @@
+package com.skillmatrix.dto;
+
+import java.util.List;
+
+public record AdminTeamRating(Long teamId, String teamName, List<AdminDeveloperRating> developers) {
+}
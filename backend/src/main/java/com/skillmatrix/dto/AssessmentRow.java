@@ -0,0 +1,8 @@
+package com.skillmatrix.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AssessmentRow(Long id, Long componentId, String componentName, String techStack,
+                            Integer level, Integer passMarkPercentage, Integer numberOfQuestions) {
+}
@@ -0,0 +1,10 @@
+package com.skillmatrix.dto;
+
+import com.skillmatrix.entity.AssessmentAttempt;
+
+import java.time.LocalDateTime;
+
+public record AttemptSummary(Long id, Long assessmentId, Long componentId, String componentName, String techStack,
+                             int level, int score, int totalQuestions, AssessmentAttempt.AttemptStatus status,
+                             boolean passed, LocalDateTime startedAt, LocalDateTime completedAt) {
+}
@@ -1,5 +1,7 @@
 package com.skillmatrix.dto;
 
+import java.util.List;
+
 public class AuthDtos {
     public static class RegisterRequest {
         public String email;
@@ -62,6 +64,12 @@ public class AuthDtos {
         public Long assessmentId;
     }
 
+    public static class BulkInviteRequest {
+        public Long assessmentId;
+        public Long teamId;
+        public List<Long> developerIds;
+    }
+
     public static class SubmitAnswerRequest {
         public Long questionId;
         public String answer;
@@ -0,0 +1,5 @@
+package com.skillmatrix.dto;
+
+public record ClaimedAnswer(Long id, Long attemptId, String developerName, String componentName, int level,
+                            String questionText, String givenAnswer, String correctAnswer) {
+}
@@ -0,0 +1,10 @@
+package com.skillmatrix.dto;
+
+import com.skillmatrix.repository.AppUserRepository;
+
+import java.util.List;
+
+public record DeveloperDashboard(AppUserRepository.UserSummary user, List<LevelSummary> skillLevels,
+                                 List<InviteSummary> pendingInvites, List<AttemptSummary> attemptHistory,
+                                 List<TimelineEntry> trajectoryTimeline) {
+}
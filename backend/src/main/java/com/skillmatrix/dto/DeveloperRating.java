@@ -0,0 +1,7 @@
+package com.skillmatrix.dto;
+
+import java.util.List;
+
+public record DeveloperRating(Long developerId, String developerName, String email,
+                              double averageLevel, List<SkillRating> skills) {
+}
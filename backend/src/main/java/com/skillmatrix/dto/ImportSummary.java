@@ -0,0 +1,4 @@
+package com.skillmatrix.dto;
+
+public record ImportSummary(long rows, long imported, long duplicates, long errors) {
+}
@@ -0,0 +1,7 @@
+package com.skillmatrix.dto;
+
+public record InviteResult(Long developerId, Outcome outcome, Long inviteId) {
+    public enum Outcome {
+        INVITED, ALREADY_PENDING, NOT_A_DEVELOPER
+    }
+}
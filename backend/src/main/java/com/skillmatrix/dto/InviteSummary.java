@@ -0,0 +1,9 @@
+package com.skillmatrix.dto;
+
+import com.skillmatrix.entity.AssessmentInvite;
+
+import java.time.LocalDateTime;
+
+public record InviteSummary(Long id, Long assessmentId, String componentName, String techStack,
+                            int level, AssessmentInvite.InviteStatus status, LocalDateTime createdAt) {
+}
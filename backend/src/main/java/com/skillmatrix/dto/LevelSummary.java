@@ -0,0 +1,7 @@
+package com.skillmatrix.dto;
+
+import java.time.LocalDateTime;
+
+public record LevelSummary(Long id, Long componentId, String componentName, String techStack,
+                           String projectName, int currentLevel, LocalDateTime lastLevelUpAt) {
+}
@@ -0,0 +1,8 @@
+package com.skillmatrix.dto;
+
+import java.util.List;
+
+public record MatrixComponent(Long componentId, String componentName, String techStack,
+                              Long projectId, String projectName, Long teamId, String teamName,
+                              List<MatrixDeveloper> developers) {
+}
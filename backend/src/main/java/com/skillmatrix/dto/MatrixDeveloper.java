@@ -0,0 +1,7 @@
+package com.skillmatrix.dto;
+
+import java.time.LocalDateTime;
+
+public record MatrixDeveloper(Long developerId, String developerName, String email,
+                              int level, LocalDateTime lastLevelUpAt) {
+}
@@ -0,0 +1,7 @@
+package com.skillmatrix.dto;
+
+import java.util.List;
+
+public record MatrixProject(Long projectId, String projectName, Long teamId, String teamName,
+                            List<DeveloperRating> developers) {
+}
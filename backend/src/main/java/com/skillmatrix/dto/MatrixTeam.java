@@ -0,0 +1,6 @@
+package com.skillmatrix.dto;
+
+import java.util.List;
+
+public record MatrixTeam(Long teamId, String teamName, List<DeveloperRating> developers) {
+}
@@ -0,0 +1,9 @@
+package com.skillmatrix.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PendingReview(Long id, String developerName, String developerEmail, String componentName,
+                            int level, int score, int totalQuestions, LocalDateTime startedAt,
+                            List<ReviewAnswer> unreviewedAnswers) {
+}
@@ -0,0 +1,4 @@
+package com.skillmatrix.dto;
+
+public record ProjectSummary(Long id, String name, String description, Long teamId, int componentCount) {
+}
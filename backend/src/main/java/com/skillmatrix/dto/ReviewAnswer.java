@@ -0,0 +1,7 @@
+package com.skillmatrix.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public record ReviewAnswer(@JsonIgnore Long attemptId, Long id, String questionText,
+                           String givenAnswer, String correctAnswer) {
+}
@@ -0,0 +1,4 @@
+package com.skillmatrix.dto;
+
+public record SkillRating(String componentName, String techStack, String projectName, int level) {
+}
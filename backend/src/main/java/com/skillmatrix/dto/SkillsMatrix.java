@@ -0,0 +1,7 @@
+package com.skillmatrix.dto;
+
+import java.util.List;
+
+public record SkillsMatrix(long version, List<MatrixComponent> byComponent,
+                           List<MatrixProject> byProject, List<MatrixTeam> byTeam) {
+}
@@ -0,0 +1,4 @@
+package com.skillmatrix.dto;
+
+public record TeamSummary(Long id, String name, String description, int projectCount) {
+}
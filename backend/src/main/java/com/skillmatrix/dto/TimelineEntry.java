@@ -0,0 +1,7 @@
+package com.skillmatrix.dto;
+
+import java.time.LocalDateTime;
+
+public record TimelineEntry(String componentName, String techStack, int levelReached, LocalDateTime date,
+                            int score, int totalQuestions) {
+}
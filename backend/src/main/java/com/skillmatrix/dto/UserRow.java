@@ -0,0 +1,9 @@
+package com.skillmatrix.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.skillmatrix.entity.AppUser;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserRow(Long id, String email, String fullName, AppUser.Role role,
+                      Boolean emailVerified, Boolean active) {
+}
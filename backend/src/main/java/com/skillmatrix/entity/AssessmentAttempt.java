@@ -12,11 +12,11 @@ public class AssessmentAttempt {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "developer_id", nullable = false)
     private AppUser developer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assessment_id", nullable = false)
     private Assessment assessment;
 
@@ -33,6 +33,12 @@ public class AssessmentAttempt {
     @OneToMany(mappedBy = "attempt", cascade = CascadeType.ALL)
     private List<AttemptAnswer> answers = new ArrayList<>();
 
+    @ElementCollection
+    @CollectionTable(name = "attempt_questions", joinColumns = @JoinColumn(name = "attempt_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "question_id", nullable = false)
+    private List<Long> questionIds = new ArrayList<>();
+
     public enum AttemptStatus {
         IN_PROGRESS, COMPLETED, PENDING_REVIEW, GRADED
     }
@@ -57,4 +63,6 @@ public class AssessmentAttempt {
     public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
     public List<AttemptAnswer> getAnswers() { return answers; }
     public void setAnswers(List<AttemptAnswer> answers) { this.answers = answers; }
+    public List<Long> getQuestionIds() { return questionIds; }
+    public void setQuestionIds(List<Long> questionIds) { this.questionIds = questionIds; }
 }
@@ -7,14 +7,15 @@ import java.time.LocalDateTime;
 @Table(name = "assessment_invites")
 public class AssessmentInvite {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assessment_invites_seq")
+    @SequenceGenerator(name = "assessment_invites_seq", sequenceName = "assessment_invites_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "developer_id", nullable = false)
     private AppUser developer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assessment_id", nullable = false)
     private Assessment assessment;
 
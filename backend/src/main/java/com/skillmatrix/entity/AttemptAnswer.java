@@ -1,19 +1,21 @@
 package com.skillmatrix.entity;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "attempt_answers")
 public class AttemptAnswer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attempt_answers_seq")
+    @SequenceGenerator(name = "attempt_answers_seq", sequenceName = "attempt_answers_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "attempt_id", nullable = false)
     private AssessmentAttempt attempt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "question_id", nullable = false)
     private Question question;
 
@@ -23,6 +25,9 @@ public class AttemptAnswer {
     private boolean correct;
     private boolean reviewed;
 
+    private Long claimedBy;
+    private LocalDateTime claimExpiresAt;
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public AssessmentAttempt getAttempt() { return attempt; }
@@ -35,4 +40,8 @@ public class AttemptAnswer {
     public void setCorrect(boolean correct) { this.correct = correct; }
     public boolean isReviewed() { return reviewed; }
     public void setReviewed(boolean reviewed) { this.reviewed = reviewed; }
+    public Long getClaimedBy() { return claimedBy; }
+    public void setClaimedBy(Long claimedBy) { this.claimedBy = claimedBy; }
+    public LocalDateTime getClaimExpiresAt() { return claimExpiresAt; }
+    public void setClaimExpiresAt(LocalDateTime claimExpiresAt) { this.claimExpiresAt = claimExpiresAt; }
 }
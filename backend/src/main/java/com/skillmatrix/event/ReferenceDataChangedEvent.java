@@ -0,0 +1,8 @@
+package com.skillmatrix.event;
+
+/**
+ * Published after teams, projects, components or users are created, renamed or moved, so read
+ * models that denormalize their names can reload.
+ */
+public record ReferenceDataChangedEvent(String entity) {
+}
@@ -0,0 +1,35 @@
+package com.skillmatrix.event;
+
+import com.skillmatrix.entity.AppUser;
+import com.skillmatrix.entity.Component;
+import com.skillmatrix.entity.DeveloperLevel;
+
+import java.time.LocalDateTime;
+
+public record SkillLevelChangedEvent(Long levelId, Long developerId, String developerName, String email,
+                                     Long componentId, String componentName, String techStack,
+                                     Long projectId, String projectName, Long teamId, String teamName,
+                                     int level, LocalDateTime lastLevelUpAt) {
+
+    public static SkillLevelChangedEvent of(DeveloperLevel l) {
+        return levelUp(l.getId(), l.getDeveloper(), l.getComponent(), l.getCurrentLevel(), l.getLastLevelUpAt());
+    }
+
+    public static SkillLevelChangedEvent levelUp(Long levelId, AppUser developer, Component component,
+                                                 int level, LocalDateTime lastLevelUpAt) {
+        return new SkillLevelChangedEvent(
+                levelId,
+                developer.getId(),
+                developer.getFullName(),
+                developer.getEmail(),
+                component.getId(),
+                component.getName(),
+                component.getTechStack(),
+                component.getProject().getId(),
+                component.getProject().getName(),
+                component.getProject().getTeam().getId(),
+                component.getProject().getTeam().getName(),
+                level,
+                lastLevelUpAt);
+    }
+}
@@ -1,13 +1,59 @@
 package com.skillmatrix.repository;
 
+import com.skillmatrix.dto.UserRow;
 import com.skillmatrix.entity.AppUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface AppUserRepository extends JpaRepository<AppUser, Long> {
+public interface AppUserRepository extends JpaRepository<AppUser, Long>, UserRowQueries {
     Optional<AppUser> findByEmail(String email);
     boolean existsByEmail(String email);
     List<AppUser> findByRole(AppUser.Role role);
     long count();
+
+    Optional<UserSummary> findSummaryById(Long id);
+
+    @Query("select new com.skillmatrix.dto.UserRow(u.id, u.email, u.fullName, u.role, u.emailVerified, u.active) " +
+            "from AppUser u")
+    List<UserRow> findAllRows();
+
+    @Query("select new com.skillmatrix.dto.UserRow(u.id, u.email, u.fullName, u.role, u.emailVerified, u.active) " +
+            "from AppUser u where u.id = :id")
+    Optional<UserRow> findRowById(@Param("id") Long id);
+
+    @Query("select distinct u.id from AppUser u join u.projects p " +
+            "where p.team.id = :teamId and u.role = com.skillmatrix.entity.AppUser.Role.DEVELOPER")
+    List<Long> findDeveloperIdsByTeamId(@Param("teamId") Long teamId);
+
+    @Query("select u.id from AppUser u where u.id in :ids and u.role = com.skillmatrix.entity.AppUser.Role.DEVELOPER")
+    List<Long> findDeveloperIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(nativeQuery = true, value = "select " +
+            "(select count(*) from app_users where role = 'DEVELOPER') as \"totalDevelopers\", " +
+            "(select count(*) from teams) as \"totalTeams\", " +
+            "(select count(*) from projects) as \"totalProjects\", " +
+            "(select count(*) from assessments) as \"totalAssessments\", " +
+            "(select count(*) from assessment_attempts where status = 'PENDING_REVIEW') as \"pendingReviews\"")
+    AdminTotals getAdminTotals();
+
+    interface UserSummary {
+        Long getId();
+        String getEmail();
+        String getFullName();
+        AppUser.Role getRole();
+        boolean isEmailVerified();
+        boolean isActive();
+    }
+
+    interface AdminTotals {
+        long getTotalDevelopers();
+        long getTotalTeams();
+        long getTotalProjects();
+        long getTotalAssessments();
+        long getPendingReviews();
+    }
 }
@@ -1,12 +1,50 @@
 package com.skillmatrix.repository;
 
+import com.skillmatrix.dto.AttemptSummary;
+import com.skillmatrix.dto.TimelineEntry;
 import com.skillmatrix.entity.AssessmentAttempt;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface AssessmentAttemptRepository extends JpaRepository<AssessmentAttempt, Long> {
     List<AssessmentAttempt> findByDeveloperId(Long developerId);
-    List<AssessmentAttempt> findByDeveloperIdOrderByStartedAtDesc(Long developerId);
-    List<AssessmentAttempt> findByStatus(AssessmentAttempt.AttemptStatus status);
-    List<AssessmentAttempt> findByAssessmentId(Long assessmentId);
+
+    @EntityGraph(attributePaths = {"developer", "assessment.component.project.team"})
+    Optional<AssessmentAttempt> findForGradingById(Long id);
+
+    @Query("select new com.skillmatrix.dto.AttemptSummary(a.id, asmt.id, c.id, c.name, c.techStack, asmt.level, " +
+            "a.score, a.totalQuestions, a.status, a.passed, a.startedAt, a.completedAt) " +
+            "from AssessmentAttempt a join a.assessment asmt join asmt.component c " +
+            "where a.developer.id = :developerId order by a.startedAt desc")
+    List<AttemptSummary> findSummariesByDeveloperId(@Param("developerId") Long developerId);
+
+    @Query("select new com.skillmatrix.dto.TimelineEntry(c.name, c.techStack, asmt.level, a.completedAt, " +
+            "a.score, a.totalQuestions) " +
+            "from AssessmentAttempt a join a.assessment asmt join asmt.component c " +
+            "where a.developer.id = :developerId and a.passed = true and exists (select 1 from DeveloperLevel l " +
+            "where l.developer.id = :developerId and l.component.id = c.id) " +
+            "order by a.completedAt asc nulls last, a.id")
+    List<TimelineEntry> findTimelineByDeveloperId(@Param("developerId") Long developerId);
+
+    @Query("select a.id as id, d.fullName as developerName, d.email as developerEmail, c.name as componentName, " +
+            "asmt.level as level, a.score as score, a.totalQuestions as totalQuestions, a.startedAt as startedAt " +
+            "from AssessmentAttempt a join a.developer d join a.assessment asmt join asmt.component c " +
+            "where a.status = :status order by a.id")
+    List<PendingReviewRow> findReviewsByStatus(@Param("status") AssessmentAttempt.AttemptStatus status);
+
+    interface PendingReviewRow {
+        Long getId();
+        String getDeveloperName();
+        String getDeveloperEmail();
+        String getComponentName();
+        int getLevel();
+        int getScore();
+        int getTotalQuestions();
+        LocalDateTime getStartedAt();
+    }
 }
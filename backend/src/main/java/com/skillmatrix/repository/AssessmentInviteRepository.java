@@ -1,10 +1,30 @@
 package com.skillmatrix.repository;
 
+import com.skillmatrix.dto.InviteSummary;
 import com.skillmatrix.entity.AssessmentInvite;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface AssessmentInviteRepository extends JpaRepository<AssessmentInvite, Long> {
     List<AssessmentInvite> findByDeveloperId(Long developerId);
-    List<AssessmentInvite> findByDeveloperIdAndStatus(Long developerId, AssessmentInvite.InviteStatus status);
+
+    @EntityGraph(attributePaths = {"developer", "assessment.component"})
+    Optional<AssessmentInvite> findWithAssessmentById(Long id);
+
+    @Query("select i.developer.id from AssessmentInvite i where i.assessment.id = :assessmentId " +
+            "and i.status = com.skillmatrix.entity.AssessmentInvite.InviteStatus.PENDING and i.developer.id in :developerIds")
+    List<Long> findPendingDeveloperIds(@Param("assessmentId") Long assessmentId,
+                                       @Param("developerIds") Collection<Long> developerIds);
+
+    @Query("select new com.skillmatrix.dto.InviteSummary(i.id, asmt.id, c.name, c.techStack, asmt.level, " +
+            "i.status, i.createdAt) " +
+            "from AssessmentInvite i join i.assessment asmt join asmt.component c " +
+            "where i.developer.id = :developerId and i.status = :status order by i.id")
+    List<InviteSummary> findSummariesByDeveloperIdAndStatus(@Param("developerId") Long developerId,
+                                                            @Param("status") AssessmentInvite.InviteStatus status);
 }
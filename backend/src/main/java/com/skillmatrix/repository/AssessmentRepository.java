@@ -1,11 +1,38 @@
 package com.skillmatrix.repository;
 
+import com.skillmatrix.dto.AssessmentRow;
 import com.skillmatrix.entity.Assessment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.List;
 import java.util.Optional;
 
-public interface AssessmentRepository extends JpaRepository<Assessment, Long> {
+public interface AssessmentRepository extends JpaRepository<Assessment, Long>, AssessmentRowQueries {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Assessment> findByComponentId(Long componentId);
+
     Optional<Assessment> findByComponentIdAndLevel(Long componentId, int level);
+    boolean existsByComponentIdAndLevel(Long componentId, int level);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.skillmatrix.dto.AssessmentRow(a.id, c.id, c.name, c.techStack, a.level, " +
+            "a.passMarkPercentage, a.numberOfQuestions) from Assessment a join a.component c")
+    List<AssessmentRow> findAllRows();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select a.id as id, a.component.id as componentId, a.level as level, " +
+            "a.passMarkPercentage as passMarkPercentage, a.numberOfQuestions as numberOfQuestions " +
+            "from Assessment a order by a.component.id, a.level")
+    List<AssessmentLevelView> findAllLevels();
+
+    interface AssessmentLevelView {
+        Long getId();
+        Long getComponentId();
+        int getLevel();
+        int getPassMarkPercentage();
+        int getNumberOfQuestions();
+    }
 }
@@ -0,0 +1,13 @@
+package com.skillmatrix.repository;
+
+import com.skillmatrix.dto.AssessmentRow;
+
+import java.util.List;
+import java.util.Set;
+
+public interface AssessmentRowQueries {
+    Set<String> ROW_FIELDS = Set.of("id", "componentId", "componentName", "techStack",
+            "level", "passMarkPercentage", "numberOfQuestions");
+
+    List<AssessmentRow> findRows(Set<String> fields, Long componentId, Long after, int limit);
+}
@@ -0,0 +1,59 @@
+package com.skillmatrix.repository;
+
+import com.skillmatrix.dto.AssessmentRow;
+import com.skillmatrix.entity.Assessment;
+import com.skillmatrix.entity.Component;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+class AssessmentRowQueriesImpl implements AssessmentRowQueries {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AssessmentRow> findRows(Set<String> fields, Long componentId, Long after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Assessment> a = query.from(Assessment.class);
+
+        List<Selection<?>> columns = new ArrayList<>();
+        columns.add(a.get("id").alias("id"));
+        if (fields.contains("componentId")) columns.add(a.get("component").get("id").alias("componentId"));
+        if (fields.contains("componentName") || fields.contains("techStack")) {
+            Join<Assessment, Component> c = a.join("component");
+            if (fields.contains("componentName")) columns.add(c.get("name").alias("componentName"));
+            if (fields.contains("techStack")) columns.add(c.get("techStack").alias("techStack"));
+        }
+        for (String field : List.of("level", "passMarkPercentage", "numberOfQuestions")) {
+            if (fields.contains(field)) columns.add(a.get(field).alias(field));
+        }
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.greaterThan(a.<Long>get("id"), after));
+        if (componentId != null) where.add(cb.equal(a.get("component").get("id"), componentId));
+        query.multiselect(columns).where(where.toArray(Predicate[]::new)).orderBy(cb.asc(a.get("id")));
+
+        List<AssessmentRow> rows = new ArrayList<>();
+        for (Tuple t : entityManager.createQuery(query).setMaxResults(limit).getResultList()) {
+            rows.add(new AssessmentRow(t.get("id", Long.class), value(t, fields, "componentId", Long.class),
+                    value(t, fields, "componentName", String.class), value(t, fields, "techStack", String.class),
+                    value(t, fields, "level", Integer.class), value(t, fields, "passMarkPercentage", Integer.class),
+                    value(t, fields, "numberOfQuestions", Integer.class)));
+        }
+        return rows;
+    }
+
+    private static <T> T value(Tuple tuple, Set<String> fields, String name, Class<T> type) {
+        return fields.contains(name) ? tuple.get(name, type) : null;
+    }
+}
@@ -0,0 +1,62 @@
+package com.skillmatrix.repository;
+
+import com.skillmatrix.dto.ClaimedAnswer;
+import com.skillmatrix.dto.ReviewAnswer;
+import com.skillmatrix.entity.AssessmentAttempt;
+import com.skillmatrix.entity.AttemptAnswer;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttemptAnswerRepository extends JpaRepository<AttemptAnswer, Long> {
+    List<AttemptAnswer> findByAttemptId(Long attemptId);
+    List<AttemptAnswer> findByAttemptIdAndIdIn(Long attemptId, Collection<Long> ids);
+    long countByAttemptIdAndReviewedFalse(Long attemptId);
+    long countByAttemptIdAndCorrectTrue(Long attemptId);
+
+    @EntityGraph(attributePaths = {"attempt.developer", "attempt.assessment.component.project.team"})
+    Optional<AttemptAnswer> findForGradingById(Long id);
+
+    @Query("select new com.skillmatrix.dto.ReviewAnswer(a.id, ans.id, q.questionText, ans.givenAnswer, q.correctAnswer) " +
+            "from AttemptAnswer ans join ans.attempt a join ans.question q " +
+            "where a.status = :status and ans.reviewed = false order by a.id, ans.id")
+    List<ReviewAnswer> findUnreviewedByAttemptStatus(@Param("status") AssessmentAttempt.AttemptStatus status);
+
+    @Query(nativeQuery = true, value = "select ans.id from attempt_answers ans " +
+            "join assessment_attempts a on a.id = ans.attempt_id " +
+            "where a.status = 'PENDING_REVIEW' and ans.reviewed = false " +
+            "and (ans.claimed_by is null or ans.claimed_by = :reviewerId or ans.claim_expires_at < :now) " +
+            "order by ans.id limit :limit for update of ans skip locked")
+    List<Long> lockClaimable(@Param("reviewerId") Long reviewerId, @Param("now") LocalDateTime now,
+                             @Param("limit") int limit);
+
+    @Modifying
+    @Query("update AttemptAnswer ans set ans.claimedBy = :reviewerId, ans.claimExpiresAt = :expiresAt " +
+            "where ans.id in :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("reviewerId") Long reviewerId,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("update AttemptAnswer ans set ans.claimedBy = null, ans.claimExpiresAt = null " +
+            "where ans.claimedBy = :reviewerId and ans.id in :ids")
+    int release(@Param("reviewerId") Long reviewerId, @Param("ids") Collection<Long> ids);
+
+    @Query("select new com.skillmatrix.dto.ClaimedAnswer(ans.id, a.id, d.fullName, c.name, asmt.level, " +
+            "q.questionText, ans.givenAnswer, q.correctAnswer) " +
+            "from AttemptAnswer ans join ans.attempt a join a.developer d join a.assessment asmt " +
+            "join asmt.component c join ans.question q where ans.id in :ids order by ans.id")
+    List<ClaimedAnswer> findClaimedByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.skillmatrix.dto.ClaimedAnswer(ans.id, a.id, d.fullName, c.name, asmt.level, " +
+            "q.questionText, ans.givenAnswer, q.correctAnswer) " +
+            "from AttemptAnswer ans join ans.attempt a join a.developer d join a.assessment asmt " +
+            "join asmt.component c join ans.question q " +
+            "where ans.claimedBy = :reviewerId and ans.claimExpiresAt > :now and ans.reviewed = false order by ans.id")
+    List<ClaimedAnswer> findClaimsByReviewer(@Param("reviewerId") Long reviewerId, @Param("now") LocalDateTime now);
+}
@@ -1,9 +1,30 @@
 package com.skillmatrix.repository;
 
 import com.skillmatrix.entity.Component;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.List;
 
 public interface ComponentRepository extends JpaRepository<Component, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Component> findByProjectId(Long projectId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select c.id as id, c.name as name, c.techStack as techStack, c.description as description, " +
+            "p.id as projectId, p.name as projectName, t.name as teamName " +
+            "from Component c join c.project p join p.team t order by c.id")
+    List<ComponentView> findAllWithHierarchy();
+
+    interface ComponentView {
+        Long getId();
+        String getName();
+        String getTechStack();
+        String getDescription();
+        Long getProjectId();
+        String getProjectName();
+        String getTeamName();
+    }
 }
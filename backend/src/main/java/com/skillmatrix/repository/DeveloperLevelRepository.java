@@ -1,11 +1,84 @@
 package com.skillmatrix.repository;
 
+import com.skillmatrix.dto.LevelSummary;
+import com.skillmatrix.entity.AppUser;
 import com.skillmatrix.entity.DeveloperLevel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface DeveloperLevelRepository extends JpaRepository<DeveloperLevel, Long> {
+    /** Upserts the level; returns the row id only if the level went up. */
+    @Query(nativeQuery = true, value = "insert into developer_levels " +
+            "(developer_id, component_id, current_level, last_level_up_at, created_at) " +
+            "values (:developerId, :componentId, :level, :now, :now) " +
+            "on conflict (developer_id, component_id) do update " +
+            "set current_level = greatest(developer_levels.current_level, excluded.current_level), " +
+            "last_level_up_at = excluded.last_level_up_at " +
+            "where developer_levels.current_level < excluded.current_level " +
+            "returning id")
+    Optional<Long> promote(@Param("developerId") Long developerId, @Param("componentId") Long componentId,
+                           @Param("level") int level, @Param("now") LocalDateTime now);
+
+    @EntityGraph(attributePaths = {"component.project"})
     List<DeveloperLevel> findByDeveloperId(Long developerId);
-    Optional<DeveloperLevel> findByDeveloperIdAndComponentId(Long developerId, Long componentId);
+
+    @Query("select new com.skillmatrix.dto.LevelSummary(l.id, c.id, c.name, c.techStack, p.name, " +
+            "l.currentLevel, l.lastLevelUpAt) " +
+            "from DeveloperLevel l join l.component c join c.project p where l.developer.id = :developerId order by l.id")
+    List<LevelSummary> findSummariesByDeveloperId(@Param("developerId") Long developerId);
+
+    @Query("select l from DeveloperLevel l join fetch l.developer join fetch l.component c " +
+            "join fetch c.project p join fetch p.team order by l.id")
+    List<DeveloperLevel> findAllForMatrix();
+
+    @Query("select d.id as developerId, d.fullName as developerName, d.email as email, " +
+            "c.name as componentName, c.techStack as techStack, l.currentLevel as level " +
+            "from DeveloperLevel l join l.developer d join l.component c " +
+            "where d.role = :role order by d.id, l.id")
+    List<DeveloperSkillView> findSkillsByDeveloperRole(@Param("role") AppUser.Role role);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select d.id as developerId, d.fullName as developerName, d.email as email, " +
+            "c.id as componentId, c.name as componentName, c.techStack as techStack, " +
+            "p.id as projectId, p.name as projectName, t.id as teamId, t.name as teamName, " +
+            "l.currentLevel as level, l.lastLevelUpAt as lastLevelUpAt " +
+            "from DeveloperLevel l join l.developer d join l.component c join c.project p join p.team t " +
+            "order by l.id")
+    Stream<MatrixExportRow> streamMatrixRows();
+
+    interface MatrixExportRow {
+        Long getDeveloperId();
+        String getDeveloperName();
+        String getEmail();
+        Long getComponentId();
+        String getComponentName();
+        String getTechStack();
+        Long getProjectId();
+        String getProjectName();
+        Long getTeamId();
+        String getTeamName();
+        int getLevel();
+        LocalDateTime getLastLevelUpAt();
+    }
+
+    interface DeveloperSkillView {
+        Long getDeveloperId();
+        String getDeveloperName();
+        String getEmail();
+        String getComponentName();
+        String getTechStack();
+        int getLevel();
+    }
 }
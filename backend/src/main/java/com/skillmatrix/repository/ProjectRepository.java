@@ -1,9 +1,18 @@
 package com.skillmatrix.repository;
 
+import com.skillmatrix.dto.ProjectSummary;
 import com.skillmatrix.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
-    List<Project> findByTeamId(Long teamId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.skillmatrix.dto.ProjectSummary(p.id, p.name, p.description, p.team.id, " +
+            "size(p.components)) from Project p where p.team.id = :teamId")
+    List<ProjectSummary> findSummariesByTeamId(@Param("teamId") Long teamId);
 }
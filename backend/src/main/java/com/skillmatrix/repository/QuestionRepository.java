@@ -2,10 +2,38 @@ package com.skillmatrix.repository;
 
 import com.skillmatrix.entity.Question;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
-    List<Question> findByComponentId(Long componentId);
     List<Question> findByComponentIdAndDifficultyLevel(Long componentId, int difficultyLevel);
     List<Question> findByComponentIdAndDifficultyLevelLessThanEqual(Long componentId, int level);
+
+    List<Question> findByComponentId(Long componentId);
+
+    List<Question> findByIdIn(Collection<Long> ids);
+
+    @Query("select q.id as id, q.difficultyLevel as difficultyLevel from Question q " +
+            "where q.component.id = :componentId order by q.difficultyLevel, q.id")
+    List<QuestionKey> findKeysByComponentId(@Param("componentId") Long componentId);
+
+    @Query("select q.questionText from Question q where q.component.id = :componentId")
+    List<String> findTextsByComponentId(@Param("componentId") Long componentId);
+
+    @Query("select q.component.id as componentId, q.difficultyLevel as difficultyLevel, count(q) as questionCount " +
+            "from Question q group by q.component.id, q.difficultyLevel order by q.component.id, q.difficultyLevel")
+    List<LevelCount> countByComponentAndLevel();
+
+    interface LevelCount {
+        Long getComponentId();
+        int getDifficultyLevel();
+        long getQuestionCount();
+    }
+
+    interface QuestionKey {
+        Long getId();
+        int getDifficultyLevel();
+    }
 }
@@ -1,7 +1,20 @@
 package com.skillmatrix.repository;
 
+import com.skillmatrix.dto.TeamSummary;
 import com.skillmatrix.entity.Team;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.List;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<Team> findAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.skillmatrix.dto.TeamSummary(t.id, t.name, t.description, size(t.projects)) from Team t")
+    List<TeamSummary> findAllSummaries();
 }
@@ -0,0 +1,13 @@
+package com.skillmatrix.repository;
+
+import com.skillmatrix.dto.UserRow;
+import com.skillmatrix.entity.AppUser;
+
+import java.util.List;
+import java.util.Set;
+
+public interface UserRowQueries {
+    Set<String> ROW_FIELDS = Set.of("id", "email", "fullName", "role", "emailVerified", "active");
+
+    List<UserRow> findRows(Set<String> fields, AppUser.Role role, Long after, int limit);
+}
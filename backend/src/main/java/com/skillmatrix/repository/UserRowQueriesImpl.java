@@ -0,0 +1,49 @@
+package com.skillmatrix.repository;
+
+import com.skillmatrix.dto.UserRow;
+import com.skillmatrix.entity.AppUser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+class UserRowQueriesImpl implements UserRowQueries {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserRow> findRows(Set<String> fields, AppUser.Role role, Long after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<AppUser> u = query.from(AppUser.class);
+
+        List<Selection<?>> columns = new ArrayList<>();
+        for (String field : List.of("id", "email", "fullName", "role", "emailVerified", "active")) {
+            if (fields.contains(field)) columns.add(u.get(field).alias(field));
+        }
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.greaterThan(u.<Long>get("id"), after));
+        if (role != null) where.add(cb.equal(u.get("role"), role));
+        query.multiselect(columns).where(where.toArray(Predicate[]::new)).orderBy(cb.asc(u.get("id")));
+
+        List<UserRow> rows = new ArrayList<>();
+        for (Tuple t : entityManager.createQuery(query).setMaxResults(limit).getResultList()) {
+            rows.add(new UserRow(t.get("id", Long.class), value(t, fields, "email", String.class),
+                    value(t, fields, "fullName", String.class), value(t, fields, "role", AppUser.Role.class),
+                    value(t, fields, "emailVerified", Boolean.class), value(t, fields, "active", Boolean.class)));
+        }
+        return rows;
+    }
+
+    private static <T> T value(Tuple tuple, Set<String> fields, String name, Class<T> type) {
+        return fields.contains(name) ? tuple.get(name, type) : null;
+    }
+}
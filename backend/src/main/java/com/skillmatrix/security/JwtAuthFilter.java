@@ -27,16 +27,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            if (jwtUtil.validateToken(token)) {
-                String email = jwtUtil.getEmailFromToken(token);
-                String role = jwtUtil.getRoleFromToken(token);
-                Long userId = jwtUtil.getUserIdFromToken(token);
-
+            jwtUtil.authenticate(token).ifPresent(principal -> {
                 UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                        email, userId, List.of(new SimpleGrantedAuthority("ROLE_" + role))
+                        principal.email(), principal.userId(),
+                        List.of(new SimpleGrantedAuthority("ROLE_" + principal.role()))
                 );
                 SecurityContextHolder.getContext().setAuthentication(auth);
-            }
+            });
         }
         filterChain.doFilter(request, response);
     }
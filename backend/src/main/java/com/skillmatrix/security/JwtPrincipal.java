@@ -0,0 +1,4 @@
+package com.skillmatrix.security;
+
+public record JwtPrincipal(String email, String role, Long userId, long expiresAtMillis) {
+}
@@ -1,29 +1,45 @@
 package com.skillmatrix.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
-    @Value("${jwt.secret}")
-    private String secret;
+    private final long expiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Cache<String, JwtPrincipal> verified;
 
-    @Value("${jwt.expiration}")
-    private long expiration;
-
-    private SecretKey getSigningKey() {
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration}") long expiration,
+                   @Value("${jwt.cache.max-entries:10000}") int cacheMaxEntries) {
+        this.expiration = expiration;
         byte[] keyBytes = secret.getBytes();
         if (keyBytes.length < 32) {
             byte[] paddedKey = new byte[32];
             System.arraycopy(keyBytes, 0, paddedKey, 0, Math.min(keyBytes.length, 32));
-            return Keys.hmacShaKeyFor(paddedKey);
+            keyBytes = paddedKey;
         }
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(cacheMaxEntries)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     public String generateToken(String email, String role, Long userId) {
@@ -33,36 +49,58 @@ public class JwtUtil {
                 .claim("userId", userId)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    public boolean validateToken(String token) {
+    public Optional<JwtPrincipal> authenticate(String token) {
+        String key = hash(token);
+        JwtPrincipal cached = verified.getIfPresent(key);
+        if (cached != null) return Optional.of(cached);
+
+        JwtPrincipal principal;
         try {
-            parseToken(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+            Claims claims = parseToken(token);
+            Date expiresAt = claims.getExpiration();
+            if (expiresAt == null) return Optional.empty();
+            principal = new JwtPrincipal(claims.getSubject(), claims.get("role", String.class),
+                    claims.get("userId", Long.class), expiresAt.getTime());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
-    }
 
-    public String getEmailFromToken(String token) {
-        return parseToken(token).getSubject();
+        verified.put(key, principal);
+        return Optional.of(principal);
     }
 
-    public String getRoleFromToken(String token) {
-        return parseToken(token).get("role", String.class);
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
-    public Long getUserIdFromToken(String token) {
-        return parseToken(token).get("userId", Long.class);
+    private static final class TokenExpiry implements Expiry<String, JwtPrincipal> {
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            long remaining = principal.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remaining));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,7 @@
+package com.skillmatrix.security;
+
+public class PasswordHasherBusyException extends RuntimeException {
+    public PasswordHasherBusyException(String message) {
+        super(message);
+    }
+}
@@ -1,15 +1,22 @@
 package com.skillmatrix.service;
 
 import com.skillmatrix.dto.AuthDtos.*;
+import com.skillmatrix.dto.InviteResult;
 import com.skillmatrix.entity.*;
+import com.skillmatrix.event.SkillLevelChangedEvent;
 import com.skillmatrix.repository.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class AssessmentService {
@@ -17,18 +24,29 @@ public class AssessmentService {
     private final AssessmentInviteRepository inviteRepo;
     private final AssessmentAttemptRepository attemptRepo;
     private final QuestionRepository questionRepo;
+    private final AttemptAnswerRepository answerRepo;
     private final DeveloperLevelRepository levelRepo;
     private final AppUserRepository userRepo;
+    private final ApplicationEventPublisher events;
+    private final QuestionPoolIndex questionPool;
+    private final DataVersions versions;
 
     public AssessmentService(AssessmentRepository assessmentRepo, AssessmentInviteRepository inviteRepo,
                              AssessmentAttemptRepository attemptRepo, QuestionRepository questionRepo,
-                             DeveloperLevelRepository levelRepo, AppUserRepository userRepo) {
+                             AttemptAnswerRepository answerRepo,
+                             DeveloperLevelRepository levelRepo, AppUserRepository userRepo,
+                             ApplicationEventPublisher events, QuestionPoolIndex questionPool,
+                             DataVersions versions) {
         this.assessmentRepo = assessmentRepo;
         this.inviteRepo = inviteRepo;
         this.attemptRepo = attemptRepo;
         this.questionRepo = questionRepo;
+        this.answerRepo = answerRepo;
         this.levelRepo = levelRepo;
         this.userRepo = userRepo;
+        this.events = events;
+        this.questionPool = questionPool;
+        this.versions = versions;
     }
 
     public AssessmentInvite createInvite(AssessmentInviteRequest req) {
@@ -41,12 +59,61 @@ public class AssessmentService {
         invite.setDeveloper(dev);
         invite.setAssessment(assessment);
         invite.setStatus(AssessmentInvite.InviteStatus.PENDING);
-        return inviteRepo.save(invite);
+        invite = inviteRepo.save(invite);
+        versions.bumpDeveloper(dev.getId());
+        return invite;
+    }
+
+    @Transactional
+    public List<InviteResult> createInvites(BulkInviteRequest req) {
+        if ((req.teamId == null) == (req.developerIds == null || req.developerIds.isEmpty())) {
+            throw new RuntimeException("Provide either a team or a list of developers");
+        }
+        Assessment assessment = assessmentRepo.findById(req.assessmentId)
+                .orElseThrow(() -> new RuntimeException("Assessment not found"));
+
+        List<Long> requested = req.teamId != null
+                ? userRepo.findDeveloperIdsByTeamId(req.teamId)
+                : List.copyOf(new LinkedHashSet<>(req.developerIds));
+        Set<Long> developers = req.teamId != null
+                ? new HashSet<>(requested)
+                : new HashSet<>(userRepo.findDeveloperIdsByIdIn(requested));
+        Set<Long> pending = developers.isEmpty()
+                ? Set.of()
+                : new HashSet<>(inviteRepo.findPendingDeveloperIds(assessment.getId(), developers));
+
+        List<AssessmentInvite> invites = new ArrayList<>();
+        for (Long developerId : requested) {
+            if (developers.contains(developerId) && !pending.contains(developerId)) {
+                AssessmentInvite invite = new AssessmentInvite();
+                invite.setDeveloper(userRepo.getReferenceById(developerId));
+                invite.setAssessment(assessment);
+                invite.setStatus(AssessmentInvite.InviteStatus.PENDING);
+                invites.add(invite);
+            }
+        }
+        Map<Long, Long> inviteIds = new HashMap<>();
+        for (AssessmentInvite invite : inviteRepo.saveAll(invites)) {
+            inviteIds.put(invite.getDeveloper().getId(), invite.getId());
+        }
+        versions.bumpDevelopers(List.copyOf(inviteIds.keySet()));
+
+        List<InviteResult> results = new ArrayList<>(requested.size());
+        for (Long developerId : requested) {
+            if (!developers.contains(developerId)) {
+                results.add(new InviteResult(developerId, InviteResult.Outcome.NOT_A_DEVELOPER, null));
+            } else if (pending.contains(developerId)) {
+                results.add(new InviteResult(developerId, InviteResult.Outcome.ALREADY_PENDING, null));
+            } else {
+                results.add(new InviteResult(developerId, InviteResult.Outcome.INVITED, inviteIds.get(developerId)));
+            }
+        }
+        return results;
     }
 
     @Transactional
     public AssessmentAttempt startAttempt(Long inviteId, Long developerId) {
-        AssessmentInvite invite = inviteRepo.findById(inviteId)
+        AssessmentInvite invite = inviteRepo.findWithAssessmentById(inviteId)
                 .orElseThrow(() -> new RuntimeException("Invite not found"));
 
         if (!invite.getDeveloper().getId().equals(developerId)) {
@@ -57,23 +124,24 @@ public class AssessmentService {
         inviteRepo.save(invite);
 
         Assessment assessment = invite.getAssessment();
-        List<Question> questions = questionRepo.findByComponentIdAndDifficultyLevelLessThanEqual(
-                assessment.getComponent().getId(), assessment.getLevel());
-
-        Collections.shuffle(questions);
-        int numQuestions = Math.min(assessment.getNumberOfQuestions(), questions.size());
-        List<Question> selectedQuestions = questions.subList(0, numQuestions);
+        long[] questionIds = questionPool.sample(
+                assessment.getComponent().getId(), assessment.getLevel(), assessment.getNumberOfQuestions());
 
         AssessmentAttempt attempt = new AssessmentAttempt();
         attempt.setDeveloper(invite.getDeveloper());
         attempt.setAssessment(assessment);
-        attempt.setTotalQuestions(numQuestions);
+        attempt.setTotalQuestions(questionIds.length);
         attempt.setStatus(AssessmentAttempt.AttemptStatus.IN_PROGRESS);
+        for (long id : questionIds) {
+            attempt.getQuestionIds().add(id);
+        }
         attempt = attemptRepo.save(attempt);
+        versions.bumpDeveloper(developerId);
 
         return attempt;
     }
 
+    @Transactional(readOnly = true)
     public List<Question> getAttemptQuestions(Long attemptId, Long developerId) {
         AssessmentAttempt attempt = attemptRepo.findById(attemptId)
                 .orElseThrow(() -> new RuntimeException("Attempt not found"));
@@ -82,17 +150,12 @@ public class AssessmentService {
             throw new RuntimeException("Not authorized");
         }
 
-        Assessment assessment = attempt.getAssessment();
-        List<Question> questions = questionRepo.findByComponentIdAndDifficultyLevelLessThanEqual(
-                assessment.getComponent().getId(), assessment.getLevel());
-
-        Collections.shuffle(questions);
-        return questions.stream().limit(attempt.getTotalQuestions()).collect(Collectors.toList());
+        return questionPool.load(attempt.getQuestionIds());
     }
 
     @Transactional
     public AssessmentAttempt submitAttempt(Long attemptId, Long developerId, List<SubmitAnswerRequest> answers) {
-        AssessmentAttempt attempt = attemptRepo.findById(attemptId)
+        AssessmentAttempt attempt = attemptRepo.findForGradingById(attemptId)
                 .orElseThrow(() -> new RuntimeException("Attempt not found"));
 
         if (!attempt.getDeveloper().getId().equals(developerId)) {
@@ -102,9 +165,18 @@ public class AssessmentService {
         boolean hasFillInBlank = false;
         int correctCount = 0;
 
+        Map<Long, Question> questionsById = new HashMap<>(answers.size() * 2);
+        for (Question q : questionRepo.findAllById(answers.stream().map(a -> a.questionId).toList())) {
+            questionsById.put(q.getId(), q);
+        }
+        Set<Long> assigned = new HashSet<>(attempt.getQuestionIds());
+
         for (SubmitAnswerRequest ans : answers) {
-            Question question = questionRepo.findById(ans.questionId)
-                    .orElseThrow(() -> new RuntimeException("Question not found"));
+            if (!assigned.isEmpty() && !assigned.contains(ans.questionId)) {
+                throw new RuntimeException("Question is not part of this attempt");
+            }
+            Question question = questionsById.get(ans.questionId);
+            if (question == null) throw new RuntimeException("Question not found");
 
             AttemptAnswer answer = new AttemptAnswer();
             answer.setAttempt(attempt);
@@ -112,7 +184,7 @@ public class AssessmentService {
             answer.setGivenAnswer(ans.answer);
 
             if (question.getType() == Question.QuestionType.MCQ) {
-                boolean isCorrect = ans.answer != null && ans.answer.equalsIgnoreCase(question.getCorrectAnswer());
+                boolean isCorrect = isCorrectChoice(ans.answer, question.getCorrectAnswer());
                 answer.setCorrect(isCorrect);
                 answer.setReviewed(true);
                 if (isCorrect) correctCount++;
@@ -133,61 +205,95 @@ public class AssessmentService {
             finalizeAttempt(attempt);
         }
 
+        versions.bumpDeveloper(developerId);
         return attemptRepo.save(attempt);
     }
 
     @Transactional
-    public AttemptAnswer gradeAnswer(GradeAnswerRequest req) {
-        AttemptAnswer answer = null;
-        for (AssessmentAttempt attempt : attemptRepo.findAll()) {
-            for (AttemptAnswer a : attempt.getAnswers()) {
-                if (a.getId().equals(req.answerId)) {
-                    answer = a;
-                    break;
-                }
-            }
-            if (answer != null) break;
+    public AttemptAnswer gradeAnswer(GradeAnswerRequest req, Long reviewerId) {
+        AttemptAnswer answer = answerRepo.findForGradingById(req.answerId)
+                .orElseThrow(() -> new RuntimeException("Answer not found"));
+        requirePendingReview(answer.getAttempt());
+
+        markReviewed(answer, req.correct, reviewerId, LocalDateTime.now());
+
+        rescoreIfReviewed(answer.getAttempt());
+        versions.bumpDeveloper(answer.getAttempt().getDeveloper().getId());
+        return answer;
+    }
+
+    @Transactional
+    public AssessmentAttempt gradeAnswers(Long attemptId, List<GradeAnswerRequest> grades, Long reviewerId) {
+        if (grades == null || grades.isEmpty()) {
+            throw new RuntimeException("No grades given");
+        }
+        AssessmentAttempt attempt = attemptRepo.findForGradingById(attemptId)
+                .orElseThrow(() -> new RuntimeException("Attempt not found"));
+        requirePendingReview(attempt);
+
+        Map<Long, Boolean> correctById = new HashMap<>();
+        for (GradeAnswerRequest req : grades) {
+            correctById.put(req.answerId, req.correct);
+        }
+        List<AttemptAnswer> answers = answerRepo.findByAttemptIdAndIdIn(attemptId, correctById.keySet());
+        if (answers.size() != correctById.size()) {
+            throw new RuntimeException("Answer not found");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (AttemptAnswer answer : answers) {
+            markReviewed(answer, correctById.get(answer.getId()), reviewerId, now);
         }
 
-        if (answer == null) throw new RuntimeException("Answer not found");
+        rescoreIfReviewed(attempt);
+        versions.bumpDeveloper(attempt.getDeveloper().getId());
+        return attempt;
+    }
 
-        answer.setCorrect(req.correct);
+    private static void requirePendingReview(AssessmentAttempt attempt) {
+        if (attempt.getStatus() != AssessmentAttempt.AttemptStatus.PENDING_REVIEW) {
+            throw new RuntimeException("Attempt is not awaiting review");
+        }
+    }
+
+    private static void markReviewed(AttemptAnswer answer, boolean correct, Long reviewerId, LocalDateTime now) {
+        if (answer.getClaimedBy() != null && !answer.getClaimedBy().equals(reviewerId)
+                && answer.getClaimExpiresAt() != null && answer.getClaimExpiresAt().isAfter(now)) {
+            throw new RuntimeException("Answer is claimed by another reviewer");
+        }
+        answer.setCorrect(correct);
         answer.setReviewed(true);
+        answer.setClaimedBy(null);
+        answer.setClaimExpiresAt(null);
+    }
 
-        AssessmentAttempt attempt = answer.getAttempt();
-        boolean allReviewed = attempt.getAnswers().stream().allMatch(AttemptAnswer::isReviewed);
-        if (allReviewed) {
-            int correctCount = (int) attempt.getAnswers().stream().filter(AttemptAnswer::isCorrect).count();
-            attempt.setScore(correctCount);
+    private void rescoreIfReviewed(AssessmentAttempt attempt) {
+        if (answerRepo.countByAttemptIdAndReviewedFalse(attempt.getId()) == 0) {
+            attempt.setScore((int) answerRepo.countByAttemptIdAndCorrectTrue(attempt.getId()));
             finalizeAttempt(attempt);
             attemptRepo.save(attempt);
         }
-
-        return answer;
     }
 
     private void finalizeAttempt(AssessmentAttempt attempt) {
         Assessment assessment = attempt.getAssessment();
-        double percentage = (double) attempt.getScore() / attempt.getTotalQuestions() * 100;
-        boolean passed = percentage >= assessment.getPassMarkPercentage();
+        boolean passed = isPassing(attempt.getScore(), attempt.getTotalQuestions(), assessment.getPassMarkPercentage());
         attempt.setPassed(passed);
         attempt.setStatus(AssessmentAttempt.AttemptStatus.GRADED);
 
         if (passed) {
-            DeveloperLevel devLevel = levelRepo
-                    .findByDeveloperIdAndComponentId(attempt.getDeveloper().getId(), assessment.getComponent().getId())
-                    .orElseGet(() -> {
-                        DeveloperLevel dl = new DeveloperLevel();
-                        dl.setDeveloper(attempt.getDeveloper());
-                        dl.setComponent(assessment.getComponent());
-                        return dl;
-                    });
-
-            if (assessment.getLevel() > devLevel.getCurrentLevel()) {
-                devLevel.setCurrentLevel(assessment.getLevel());
-                devLevel.setLastLevelUpAt(LocalDateTime.now());
-                levelRepo.save(devLevel);
-            }
+            LocalDateTime now = LocalDateTime.now();
+            levelRepo.promote(attempt.getDeveloper().getId(), assessment.getComponent().getId(), assessment.getLevel(), now)
+                    .ifPresent(levelId -> events.publishEvent(SkillLevelChangedEvent.levelUp(
+                            levelId, attempt.getDeveloper(), assessment.getComponent(), assessment.getLevel(), now)));
         }
     }
+
+    static boolean isCorrectChoice(String given, String correct) {
+        return given != null && given.equalsIgnoreCase(correct);
+    }
+
+    static boolean isPassing(int score, int totalQuestions, int passMarkPercentage) {
+        double percentage = (double) score / totalQuestions * 100;
+        return percentage >= passMarkPercentage;
+    }
 }
@@ -4,7 +4,7 @@ import com.skillmatrix.dto.AuthDtos.*;
 import com.skillmatrix.entity.AppUser;
 import com.skillmatrix.repository.AppUserRepository;
 import com.skillmatrix.security.JwtUtil;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.skillmatrix.security.PasswordHasher;
 import org.springframework.stereotype.Service;
 
 import java.util.Random;
@@ -12,13 +12,16 @@ import java.util.Random;
 @Service
 public class AuthService {
     private final AppUserRepository userRepo;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
+    private final DataVersions versions;
 
-    public AuthService(AppUserRepository userRepo, PasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
+    public AuthService(AppUserRepository userRepo, PasswordHasher passwordHasher, JwtUtil jwtUtil,
+                       DataVersions versions) {
         this.userRepo = userRepo;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.jwtUtil = jwtUtil;
+        this.versions = versions;
     }
 
     public AuthResponse register(RegisterRequest req) {
@@ -40,6 +43,7 @@ public class AuthService {
         user.setVerificationCode(code);
         user.setEmailVerified(false);
         userRepo.save(user);
+        versions.bump();
 
         AuthResponse resp = new AuthResponse();
         resp.userId = user.getId();
@@ -60,6 +64,7 @@ public class AuthService {
         user.setEmailVerified(true);
         user.setVerificationCode(null);
         userRepo.save(user);
+        versions.bumpDeveloper(user.getId());
 
         AuthResponse resp = new AuthResponse();
         resp.userId = user.getId();
@@ -73,9 +78,9 @@ public class AuthService {
         AppUser user = userRepo.findByEmail(req.email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        user.setPassword(passwordEncoder.encode(req.password));
+        user.setPassword(passwordHasher.encode(req.password));
         user.setSecurityQuestion(req.securityQuestion);
-        user.setSecurityAnswer(passwordEncoder.encode(req.securityAnswer));
+        user.setSecurityAnswer(passwordHasher.encode(req.securityAnswer));
         userRepo.save(user);
 
         String token = jwtUtil.generateToken(user.getEmail(), user.getRole().name(), user.getId());
@@ -102,7 +107,7 @@ public class AuthService {
             return resp;
         }
 
-        if (!passwordEncoder.matches(req.password, user.getPassword())) {
+        if (!passwordHasher.matches(req.password, user.getPassword())) {
             throw new RuntimeException("Invalid credentials");
         }
 
@@ -120,11 +125,11 @@ public class AuthService {
         AppUser user = userRepo.findByEmail(req.email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!passwordEncoder.matches(req.securityAnswer, user.getSecurityAnswer())) {
+        if (!passwordHasher.matches(req.securityAnswer, user.getSecurityAnswer())) {
             throw new RuntimeException("Invalid security answer");
         }
 
-        user.setPassword(passwordEncoder.encode(req.newPassword));
+        user.setPassword(passwordHasher.encode(req.newPassword));
         userRepo.save(user);
 
         String token = jwtUtil.generateToken(user.getEmail(), user.getRole().name(), user.getId());
@@ -145,6 +150,7 @@ public class AuthService {
         user.setVerificationCode(code);
         user.setEmailVerified(false);
         userRepo.save(user);
+        versions.bump();
 
         AuthResponse resp = new AuthResponse();
         resp.userId = user.getId();
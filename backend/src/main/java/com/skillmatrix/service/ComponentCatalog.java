@@ -0,0 +1,94 @@
+package com.skillmatrix.service;
+
+import com.skillmatrix.repository.AssessmentRepository;
+import com.skillmatrix.repository.ComponentRepository;
+import com.skillmatrix.repository.QuestionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class ComponentCatalog {
+    private final ComponentRepository componentRepo;
+    private final QuestionRepository questionRepo;
+    private final AssessmentRepository assessmentRepo;
+    private final long ttlMillis;
+
+    private volatile List<Map<String, Object>> cached;
+    private volatile long cachedAt;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ComponentCatalog(ComponentRepository componentRepo, QuestionRepository questionRepo,
+                            AssessmentRepository assessmentRepo,
+                            @Value("${skillmatrix.components.cache-ttl-ms:30000}") long ttlMillis) {
+        this.componentRepo = componentRepo;
+        this.questionRepo = questionRepo;
+        this.assessmentRepo = assessmentRepo;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllComponents() {
+        List<Map<String, Object>> current = cached;
+        if (current != null && System.currentTimeMillis() - cachedAt < ttlMillis) {
+            return current;
+        }
+        long loadedGeneration = generation.get();
+        current = load();
+        synchronized (this) {
+            if (generation.get() == loadedGeneration) {
+                cachedAt = System.currentTimeMillis();
+                cached = current;
+            }
+        }
+        return current;
+    }
+
+    public synchronized void invalidate() {
+        generation.incrementAndGet();
+        cached = null;
+    }
+
+    private List<Map<String, Object>> load() {
+        Map<Long, int[]> questionCounts = new HashMap<>();
+        Map<Long, List<Integer>> levelsByComponent = new HashMap<>();
+        for (QuestionRepository.LevelCount row : questionRepo.countByComponentAndLevel()) {
+            questionCounts.computeIfAbsent(row.getComponentId(), k -> new int[1])[0] += (int) row.getQuestionCount();
+            levelsByComponent.computeIfAbsent(row.getComponentId(), k -> new ArrayList<>()).add(row.getDifficultyLevel());
+        }
+
+        Map<Long, List<Map<String, Object>>> assessmentsByComponent = new HashMap<>();
+        for (AssessmentRepository.AssessmentLevelView a : assessmentRepo.findAllLevels()) {
+            Map<String, Object> am = new HashMap<>();
+            am.put("id", a.getId());
+            am.put("level", a.getLevel());
+            am.put("passMarkPercentage", a.getPassMarkPercentage());
+            am.put("numberOfQuestions", a.getNumberOfQuestions());
+            assessmentsByComponent.computeIfAbsent(a.getComponentId(), k -> new ArrayList<>()).add(am);
+        }
+
+        List<ComponentRepository.ComponentView> components = componentRepo.findAllWithHierarchy();
+        List<Map<String, Object>> result = new ArrayList<>(components.size());
+        for (ComponentRepository.ComponentView c : components) {
+            Map<String, Object> m = new HashMap<>();
+            m.put("id", c.getId());
+            m.put("name", c.getName());
+            m.put("techStack", c.getTechStack());
+            m.put("description", c.getDescription());
+            m.put("projectId", c.getProjectId());
+            m.put("projectName", c.getProjectName());
+            m.put("teamName", c.getTeamName());
+            int[] count = questionCounts.get(c.getId());
+            m.put("questionCount", count != null ? count[0] : 0);
+            List<Integer> levels = levelsByComponent.getOrDefault(c.getId(), List.of());
+            m.put("levelsAvailable", levels);
+            m.put("levelCount", levels.size());
+            m.put("assessmentLevels", assessmentsByComponent.getOrDefault(c.getId(), List.of()));
+            result.add(Collections.unmodifiableMap(m));
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
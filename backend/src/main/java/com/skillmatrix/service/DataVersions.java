@@ -0,0 +1,53 @@
+package com.skillmatrix.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Dashboard ETag versions; bumps made inside a transaction apply after commit. */
+@Service
+public class DataVersions {
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong global = new AtomicLong();
+    private final Map<Long, Long> byDeveloper = new ConcurrentHashMap<>();
+
+    public String globalTag() {
+        return epoch + "-" + global.get();
+    }
+
+    public String developerTag(Long developerId) {
+        return epoch + "-d" + developerId + "-" + byDeveloper.getOrDefault(developerId, 0L);
+    }
+
+    public void bump() {
+        afterCommit(global::incrementAndGet);
+    }
+
+    public void bumpDeveloper(Long developerId) {
+        afterCommit(() -> byDeveloper.put(developerId, global.incrementAndGet()));
+    }
+
+    public void bumpDevelopers(Iterable<Long> developerIds) {
+        afterCommit(() -> {
+            long version = global.incrementAndGet();
+            for (Long id : developerIds) byDeveloper.put(id, version);
+        });
+    }
+
+    private static void afterCommit(Runnable bump) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump.run();
+                }
+            });
+        } else {
+            bump.run();
+        }
+    }
+}
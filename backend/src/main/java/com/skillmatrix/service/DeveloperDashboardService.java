@@ -0,0 +1,90 @@
+package com.skillmatrix.service;
+
+import com.skillmatrix.dto.AttemptSummary;
+import com.skillmatrix.dto.DeveloperDashboard;
+import com.skillmatrix.dto.InviteSummary;
+import com.skillmatrix.dto.LevelSummary;
+import com.skillmatrix.dto.TimelineEntry;
+import com.skillmatrix.entity.AssessmentInvite;
+import com.skillmatrix.repository.AppUserRepository;
+import com.skillmatrix.repository.AssessmentAttemptRepository;
+import com.skillmatrix.repository.AssessmentInviteRepository;
+import com.skillmatrix.repository.DeveloperLevelRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Service
+public class DeveloperDashboardService {
+    private final AppUserRepository userRepo;
+    private final DeveloperLevelRepository levelRepo;
+    private final AssessmentInviteRepository inviteRepo;
+    private final AssessmentAttemptRepository attemptRepo;
+    private final TransactionTemplate readOnlyTx;
+    private final long timeoutNanos;
+
+    public DeveloperDashboardService(AppUserRepository userRepo, DeveloperLevelRepository levelRepo,
+                                     AssessmentInviteRepository inviteRepo, AssessmentAttemptRepository attemptRepo,
+                                     PlatformTransactionManager txManager,
+                                     @Value("${skillmatrix.dashboard.timeout-ms:15000}") long timeoutMillis) {
+        this.userRepo = userRepo;
+        this.levelRepo = levelRepo;
+        this.inviteRepo = inviteRepo;
+        this.attemptRepo = attemptRepo;
+        this.readOnlyTx = new TransactionTemplate(txManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    public DeveloperDashboard load(Long developerId) {
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<AppUserRepository.UserSummary> user = scope.submit(() -> read(() ->
+                    userRepo.findSummaryById(developerId).orElseThrow(() -> new RuntimeException("User not found"))));
+            Future<List<LevelSummary>> levels = scope.submit(() -> read(() ->
+                    levelRepo.findSummariesByDeveloperId(developerId)));
+            Future<List<InviteSummary>> invites = scope.submit(() -> read(() ->
+                    inviteRepo.findSummariesByDeveloperIdAndStatus(developerId, AssessmentInvite.InviteStatus.PENDING)));
+            Future<List<AttemptSummary>> attempts = scope.submit(() -> read(() ->
+                    attemptRepo.findSummariesByDeveloperId(developerId)));
+            Future<List<TimelineEntry>> timeline = scope.submit(() -> read(() ->
+                    attemptRepo.findTimelineByDeveloperId(developerId)));
+            long deadline = System.nanoTime() + timeoutNanos;
+            try {
+                return new DeveloperDashboard(join(user, deadline), join(levels, deadline), join(invites, deadline),
+                        join(attempts, deadline), join(timeline, deadline));
+            } catch (RuntimeException e) {
+                scope.shutdownNow();
+                throw e;
+            }
+        }
+    }
+
+    private <T> T read(Supplier<T> query) {
+        return readOnlyTx.execute(status -> query.get());
+    }
+
+    /** Waits for one read against the deadline shared by the whole load. */
+    private static <T> T join(Future<T> future, long deadline) {
+        try {
+            return future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Dashboard load interrupted");
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Dashboard load timed out");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new RuntimeException(e.getCause());
+        }
+    }
+}
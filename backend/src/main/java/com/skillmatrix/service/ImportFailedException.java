@@ -0,0 +1,16 @@
+package com.skillmatrix.service;
+
+import com.skillmatrix.dto.ImportSummary;
+
+public class ImportFailedException extends RuntimeException {
+    private final ImportSummary progress;
+
+    public ImportFailedException(ImportSummary progress, Throwable cause) {
+        super(cause.getMessage(), cause);
+        this.progress = progress;
+    }
+
+    public ImportSummary getProgress() {
+        return progress;
+    }
+}
@@ -0,0 +1,350 @@
+package com.skillmatrix.service;
+
+import com.skillmatrix.dto.ImportSummary;
+import com.skillmatrix.entity.Question;
+import com.skillmatrix.repository.ComponentRepository;
+import com.skillmatrix.repository.QuestionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.boot.json.JsonParser;
+import org.springframework.boot.json.JsonParserFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+@Service
+public class QuestionImporter {
+    public static final int MIN_DIFFICULTY = 1;
+    public static final int MAX_DIFFICULTY = 10;
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_TEXT_LENGTH = 2000;
+    static final int MAX_RECORD_LENGTH = 8 * MAX_TEXT_LENGTH;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern OPTION_SEPARATOR = Pattern.compile("\\|");
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    public interface Listener {
+        void rowRejected(long line, String message);
+
+        void chunkCommitted(ImportSummary progress);
+    }
+
+    record Row(long line, Map<String, Object> fields, String error) {
+    }
+
+    interface RowSource {
+        Row next() throws IOException;
+    }
+
+    private final QuestionRepository questionRepo;
+    private final ComponentRepository componentRepo;
+    private final QuestionPoolIndex questionPool;
+    private final ComponentCatalog componentCatalog;
+    private final DataVersions versions;
+    private final TransactionTemplate tx;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public QuestionImporter(QuestionRepository questionRepo, ComponentRepository componentRepo,
+                            QuestionPoolIndex questionPool, ComponentCatalog componentCatalog,
+                            DataVersions versions, PlatformTransactionManager txManager) {
+        this.questionRepo = questionRepo;
+        this.componentRepo = componentRepo;
+        this.questionPool = questionPool;
+        this.componentCatalog = componentCatalog;
+        this.versions = versions;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    public ImportSummary importQuestions(Reader in, Format format, Long defaultComponentId, Listener listener) {
+        BufferedReader reader = new BufferedReader(in);
+
+        Map<Long, Boolean> knownComponents = new HashMap<>();
+        Map<Long, Set<String>> seenTexts = new HashMap<>();
+        Set<Long> touched = new HashSet<>();
+        List<Question> chunk = new ArrayList<>(CHUNK_SIZE);
+        long read = 0, imported = 0, duplicates = 0, errors = 0;
+        try {
+            skipByteOrderMark(reader);
+            RowSource rows = format == Format.CSV ? new CsvRows(reader) : new NdjsonRows(reader);
+            Row row;
+            while ((row = rows.next()) != null) {
+                read++;
+                try {
+                    if (row.error() != null) throw new IllegalArgumentException(row.error());
+                    Question q = toQuestion(row.fields(), defaultComponentId);
+                    Long componentId = q.getComponent().getId();
+                    if (!knownComponents.computeIfAbsent(componentId, componentRepo::existsById)) {
+                        throw new IllegalArgumentException("Component " + componentId + " not found");
+                    }
+                    Set<String> texts = seenTexts.computeIfAbsent(componentId, this::existingTexts);
+                    if (!texts.add(normalize(q.getQuestionText()))) {
+                        duplicates++;
+                        continue;
+                    }
+                    chunk.add(q);
+                    touched.add(componentId);
+                } catch (IllegalArgumentException e) {
+                    errors++;
+                    listener.rowRejected(row.line(), e.getMessage());
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    imported += save(chunk);
+                    listener.chunkCommitted(new ImportSummary(read, imported, duplicates, errors));
+                }
+            }
+            if (!chunk.isEmpty()) {
+                imported += save(chunk);
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new ImportFailedException(new ImportSummary(read, imported, duplicates, errors), e);
+        } finally {
+            touched.forEach(questionPool::invalidate);
+            if (!touched.isEmpty()) {
+                componentCatalog.invalidate();
+                versions.bump();
+            }
+        }
+        return new ImportSummary(read, imported, duplicates, errors);
+    }
+
+    static void skipByteOrderMark(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') reader.reset();
+    }
+
+    static String normalize(String text) {
+        return WHITESPACE.matcher(text.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private int save(List<Question> chunk) {
+        int size = chunk.size();
+        tx.executeWithoutResult(status -> {
+            questionRepo.saveAll(chunk);
+            entityManager.flush();
+            entityManager.clear();
+        });
+        chunk.clear();
+        return size;
+    }
+
+    private Set<String> existingTexts(Long componentId) {
+        Set<String> texts = new HashSet<>();
+        for (String text : questionRepo.findTextsByComponentId(componentId)) {
+            texts.add(normalize(text));
+        }
+        return texts;
+    }
+
+    private Question toQuestion(Map<String, Object> fields, Long defaultComponentId) {
+        Long componentId = fields.get("componentId") != null
+                ? parseLong(fields.get("componentId"), "componentId")
+                : defaultComponentId;
+        if (componentId == null) throw new IllegalArgumentException("componentId is required");
+
+        String text = requiredText(fields, "questionText");
+        String typeName = requiredText(fields, "type").toUpperCase(Locale.ROOT);
+        Question.QuestionType type;
+        try {
+            type = Question.QuestionType.valueOf(typeName);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("type must be one of " + Arrays.toString(Question.QuestionType.values()));
+        }
+        int difficulty = (int) parseLong(requiredText(fields, "difficultyLevel"), "difficultyLevel");
+        if (difficulty < MIN_DIFFICULTY || difficulty > MAX_DIFFICULTY) {
+            throw new IllegalArgumentException("difficultyLevel must be between " + MIN_DIFFICULTY + " and " + MAX_DIFFICULTY);
+        }
+        String correctAnswer = requiredText(fields, "correctAnswer");
+        List<String> options = options(fields.get("options"));
+        if (type == Question.QuestionType.MCQ) {
+            if (options.size() < 2) throw new IllegalArgumentException("MCQ needs at least two options");
+            if (options.stream().noneMatch(o -> AssessmentService.isCorrectChoice(o, correctAnswer))) {
+                throw new IllegalArgumentException("correctAnswer must be one of the options");
+            }
+        }
+
+        Question q = new Question();
+        q.setQuestionText(text);
+        q.setType(type);
+        q.setDifficultyLevel(difficulty);
+        q.setComponent(componentRepo.getReferenceById(componentId));
+        q.setCorrectAnswer(correctAnswer);
+        q.setOptions(options);
+        return q;
+    }
+
+    private static String requiredText(Map<String, Object> fields, String name) {
+        Object value = fields.get(name);
+        String text = value != null ? value.toString().strip() : "";
+        if (text.isEmpty()) throw new IllegalArgumentException(name + " is required");
+        if (text.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(name + " is longer than " + MAX_TEXT_LENGTH + " characters");
+        }
+        return text;
+    }
+
+    private static long parseLong(Object value, String name) {
+        try {
+            return value instanceof Number n ? n.longValue() : Long.parseLong(value.toString().strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a whole number");
+        }
+    }
+
+    private static List<String> options(Object value) {
+        List<String> options = new ArrayList<>();
+        if (value instanceof List<?> list) {
+            for (Object o : list) {
+                if (o != null && !o.toString().isBlank()) options.add(o.toString().strip());
+            }
+        } else if (value != null) {
+            for (String o : OPTION_SEPARATOR.split(value.toString())) {
+                if (!o.isBlank()) options.add(o.strip());
+            }
+        }
+        return options;
+    }
+
+    static final class NdjsonRows implements RowSource {
+        private final JsonParser json = JsonParserFactory.getJsonParser();
+        private final BufferedReader reader;
+        private long line;
+        private boolean oversized;
+
+        NdjsonRows(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String text;
+            while ((text = readLine()) != null) {
+                line++;
+                if (oversized) {
+                    return new Row(line, Map.of(), "Line is longer than " + MAX_RECORD_LENGTH + " characters");
+                }
+                if (text.isBlank()) continue;
+                try {
+                    return new Row(line, json.parseMap(text), null);
+                } catch (IllegalArgumentException e) {
+                    return new Row(line, Map.of(), "Malformed JSON");
+                }
+            }
+            return null;
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder text = new StringBuilder();
+            int length = 0;
+            int c = reader.read();
+            if (c == -1) return null;
+            while (c != -1 && c != '\n') {
+                if (++length <= MAX_RECORD_LENGTH) text.append((char) c);
+                c = reader.read();
+            }
+            oversized = length > MAX_RECORD_LENGTH;
+            if (!text.isEmpty() && text.charAt(text.length() - 1) == '\r') text.setLength(text.length() - 1);
+            return text.toString();
+        }
+    }
+
+    static final class CsvRows implements RowSource {
+        private final BufferedReader reader;
+        private List<String> header;
+        private long line = 1;
+        private boolean oversized;
+
+        CsvRows(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            if (header == null) {
+                List<String> names = readRecord();
+                if (names == null) return null;
+                if (oversized) {
+                    throw new IllegalArgumentException("Header is longer than " + MAX_RECORD_LENGTH + " characters");
+                }
+                header = names.stream().map(String::strip).toList();
+            }
+            List<String> values;
+            long start;
+            do {
+                start = line;
+                values = readRecord();
+                if (values == null) return null;
+            } while (!oversized && values.size() == 1 && values.get(0).isBlank());
+
+            if (oversized) {
+                return new Row(start, Map.of(), "Record is longer than " + MAX_RECORD_LENGTH + " characters");
+            }
+            Map<String, Object> fields = new LinkedHashMap<>();
+            for (int i = 0; i < header.size() && i < values.size(); i++) {
+                fields.put(header.get(i), values.get(i));
+            }
+            return new Row(start, fields, null);
+        }
+
+        private List<String> readRecord() throws IOException {
+            List<String> values = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int length = 0;
+            int c = reader.read();
+            if (c == -1) return null;
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        if (c == '\n') line++;
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    line++;
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                if (++length > MAX_RECORD_LENGTH) {
+                    values.clear();
+                    field.setLength(0);
+                }
+                c = reader.read();
+            }
+            oversized = length > MAX_RECORD_LENGTH;
+            values.add(field.toString());
+            return values;
+        }
+    }
+}
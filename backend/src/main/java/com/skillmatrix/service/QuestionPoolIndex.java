@@ -0,0 +1,95 @@
+package com.skillmatrix.service;
+
+import com.skillmatrix.entity.Question;
+import com.skillmatrix.repository.QuestionRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class QuestionPoolIndex {
+    private final QuestionRepository questionRepo;
+    private final Map<Long, Pool> pools = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public QuestionPoolIndex(QuestionRepository questionRepo) {
+        this.questionRepo = questionRepo;
+    }
+
+    public int poolSize(Long componentId, int level) {
+        return pool(componentId).sizeAtOrBelow(level);
+    }
+
+    public long[] sample(Long componentId, int level, int count) {
+        Pool pool = pool(componentId);
+        int n = pool.sizeAtOrBelow(level);
+        int k = Math.min(count, n);
+        long[] result = new long[k];
+        Map<Integer, Integer> swapped = new HashMap<>(k * 2);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < k; i++) {
+            int j = random.nextInt(i, n);
+            int picked = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+            result[i] = pool.ids[picked];
+        }
+        return result;
+    }
+
+    public List<Question> load(List<Long> ids) {
+        Map<Long, Question> byId = new HashMap<>(ids.size() * 2);
+        for (Question q : questionRepo.findByIdIn(ids)) {
+            byId.put(q.getId(), q);
+        }
+        List<Question> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Question q = byId.get(id);
+            if (q != null) ordered.add(q);
+        }
+        return ordered;
+    }
+
+    public void invalidate(Long componentId) {
+        invalidations.incrementAndGet();
+        pools.remove(componentId);
+    }
+
+    /** Builds outside the map's bin lock; a pool read before an invalidation is used once but not cached. */
+    private Pool pool(Long componentId) {
+        Pool pool = pools.get(componentId);
+        if (pool != null) return pool;
+        long seen = invalidations.get();
+        Pool built = build(componentId);
+        if (invalidations.get() != seen) return built;
+        Pool raced = pools.putIfAbsent(componentId, built);
+        if (raced != null) return raced;
+        if (invalidations.get() != seen) pools.remove(componentId, built);
+        return built;
+    }
+
+    private Pool build(Long componentId) {
+        List<QuestionRepository.QuestionKey> keys = questionRepo.findKeysByComponentId(componentId);
+        long[] ids = new long[keys.size()];
+        int[] levels = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            ids[i] = keys.get(i).getId();
+            levels[i] = keys.get(i).getDifficultyLevel();
+        }
+        return new Pool(ids, levels);
+    }
+
+    private record Pool(long[] ids, int[] levels) {
+        int sizeAtOrBelow(int level) {
+            int lo = 0, hi = levels.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (levels[mid] <= level) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.skillmatrix.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ReferenceDataCache {
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry registry;
+
+    public ReferenceDataCache(EntityManagerFactory entityManagerFactory, MeterRegistry registry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.registry = registry;
+    }
+
+    public void evict(Class<?> entityType) {
+        entityManagerFactory.getCache().evict(entityType);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        registry.counter("reference.cache.evictions", "entity", entityType.getSimpleName()).increment();
+    }
+}
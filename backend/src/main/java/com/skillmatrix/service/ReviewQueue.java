@@ -0,0 +1,51 @@
+package com.skillmatrix.service;
+
+import com.skillmatrix.dto.ClaimedAnswer;
+import com.skillmatrix.repository.AttemptAnswerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/** Leases unreviewed answers to reviewers; claims skip rows another reviewer has locked. */
+@Service
+public class ReviewQueue {
+    public static final int DEFAULT_BATCH = 20;
+    public static final int MAX_BATCH = 100;
+
+    private final AttemptAnswerRepository answerRepo;
+    private final long leaseSeconds;
+
+    public ReviewQueue(AttemptAnswerRepository answerRepo,
+                       @Value("${skillmatrix.reviews.lease-seconds:300}") long leaseSeconds) {
+        this.answerRepo = answerRepo;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    public long leaseSeconds() {
+        return leaseSeconds;
+    }
+
+    @Transactional
+    public List<ClaimedAnswer> claim(Long reviewerId, int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = answerRepo.lockClaimable(reviewerId, now, batchSize);
+        if (ids.isEmpty()) return List.of();
+        answerRepo.claim(ids, reviewerId, now.plusSeconds(leaseSeconds));
+        return answerRepo.findClaimedByIdIn(ids);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ClaimedAnswer> claimedBy(Long reviewerId) {
+        return answerRepo.findClaimsByReviewer(reviewerId, LocalDateTime.now());
+    }
+
+    @Transactional
+    public int release(Long reviewerId, Collection<Long> answerIds) {
+        if (answerIds.isEmpty()) return 0;
+        return answerRepo.release(reviewerId, answerIds);
+    }
+}
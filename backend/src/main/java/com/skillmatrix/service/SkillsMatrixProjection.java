@@ -0,0 +1,227 @@
+package com.skillmatrix.service;
+
+import com.skillmatrix.dto.*;
+import com.skillmatrix.entity.DeveloperLevel;
+import com.skillmatrix.entity.Team;
+import com.skillmatrix.event.ReferenceDataChangedEvent;
+import com.skillmatrix.event.SkillLevelChangedEvent;
+import com.skillmatrix.repository.DeveloperLevelRepository;
+import com.skillmatrix.repository.TeamRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class SkillsMatrixProjection {
+    private final DeveloperLevelRepository levelRepo;
+    private final TeamRepository teamRepo;
+
+    private final Map<Long, SkillLevelChangedEvent> rows = new HashMap<>();
+    private final Map<Long, SortedMap<Long, SkillLevelChangedEvent>> rowsByComponent = new HashMap<>();
+    private final Map<Long, SortedMap<Long, SkillLevelChangedEvent>> rowsByProject = new HashMap<>();
+    private final Map<Long, SortedMap<Long, SkillLevelChangedEvent>> rowsByTeam = new HashMap<>();
+    private final SortedMap<Long, String> teamNames = new TreeMap<>();
+
+    private final Map<Long, MatrixComponent> componentSections = new HashMap<>();
+    private final Map<Long, MatrixProject> projectSections = new HashMap<>();
+    private final Map<Long, MatrixTeam> teamSections = new HashMap<>();
+
+    /** Serializes reloads; the queries run under it, never under {@link #lock}. */
+    private final ReentrantLock loadLock = new ReentrantLock();
+    /** Guards the indexes above, {@link #loading}, {@link #changedDuringLoad} and {@link #version}. */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<SkillLevelChangedEvent> changedDuringLoad = new ArrayList<>();
+    private boolean loading;
+    private long version;
+    private volatile SkillsMatrix snapshot;
+
+    public SkillsMatrixProjection(DeveloperLevelRepository levelRepo, TeamRepository teamRepo) {
+        this.levelRepo = levelRepo;
+        this.teamRepo = teamRepo;
+    }
+
+    public SkillsMatrix snapshot() {
+        SkillsMatrix current = snapshot;
+        if (current != null) return current;
+        loadLock.lock();
+        try {
+            if (snapshot == null) reload();
+            return snapshot;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    public long version() {
+        return snapshot().version();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        snapshot();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSkillLevelChanged(SkillLevelChangedEvent event) {
+        lock.lock();
+        try {
+            if (loading) changedDuringLoad.add(event);
+            if (snapshot != null && apply(event)) publish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        loadLock.lock();
+        try {
+            reload();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /** Caller holds {@link #loadLock}. Level changes that commit mid-query are replayed onto the result. */
+    private void reload() {
+        setLoading(true);
+        try {
+            Map<Long, String> teams = new HashMap<>();
+            for (Team team : teamRepo.findAll()) {
+                teams.put(team.getId(), team.getName());
+            }
+            List<SkillLevelChangedEvent> levels = new ArrayList<>();
+            for (DeveloperLevel l : levelRepo.findAllForMatrix()) {
+                levels.add(SkillLevelChangedEvent.of(l));
+            }
+            lock.lock();
+            try {
+                install(teams, levels);
+                changedDuringLoad.forEach(this::apply);
+                publish();
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            setLoading(false);
+        }
+    }
+
+    private void setLoading(boolean value) {
+        lock.lock();
+        try {
+            loading = value;
+            changedDuringLoad.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void rebuild(Map<Long, String> teams, Collection<SkillLevelChangedEvent> levels) {
+        lock.lock();
+        try {
+            install(teams, levels);
+            publish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void install(Map<Long, String> teams, Collection<SkillLevelChangedEvent> levels) {
+        rows.clear();
+        rowsByComponent.clear();
+        rowsByProject.clear();
+        rowsByTeam.clear();
+        componentSections.clear();
+        projectSections.clear();
+        teamSections.clear();
+        teamNames.clear();
+        teamNames.putAll(teams);
+        for (SkillLevelChangedEvent l : levels) {
+            index(l);
+        }
+        rowsByComponent.keySet().forEach(this::rebuildComponent);
+        rowsByProject.keySet().forEach(this::rebuildProject);
+        teamNames.keySet().forEach(this::rebuildTeam);
+    }
+
+    private boolean apply(SkillLevelChangedEvent event) {
+        SkillLevelChangedEvent previous = rows.get(event.levelId());
+        if (previous != null && previous.level() >= event.level()) return false;
+        index(event);
+        teamNames.putIfAbsent(event.teamId(), event.teamName());
+        rebuildComponent(event.componentId());
+        rebuildProject(event.projectId());
+        rebuildTeam(event.teamId());
+        return true;
+    }
+
+    private void index(SkillLevelChangedEvent row) {
+        rows.put(row.levelId(), row);
+        rowsByComponent.computeIfAbsent(row.componentId(), k -> new TreeMap<>()).put(row.levelId(), row);
+        rowsByProject.computeIfAbsent(row.projectId(), k -> new TreeMap<>()).put(row.levelId(), row);
+        rowsByTeam.computeIfAbsent(row.teamId(), k -> new TreeMap<>()).put(row.levelId(), row);
+    }
+
+    private void rebuildComponent(Long componentId) {
+        Collection<SkillLevelChangedEvent> levels = rowsByComponent.get(componentId).values();
+        SkillLevelChangedEvent first = levels.iterator().next();
+        List<MatrixDeveloper> developers = levels.stream()
+                .sorted((a, b) -> Integer.compare(b.level(), a.level()))
+                .map(l -> new MatrixDeveloper(l.developerId(), l.developerName(), l.email(), l.level(), l.lastLevelUpAt()))
+                .toList();
+        componentSections.put(componentId, new MatrixComponent(first.componentId(), first.componentName(),
+                first.techStack(), first.projectId(), first.projectName(), first.teamId(), first.teamName(), developers));
+    }
+
+    private void rebuildProject(Long projectId) {
+        Collection<SkillLevelChangedEvent> levels = rowsByProject.get(projectId).values();
+        SkillLevelChangedEvent first = levels.iterator().next();
+        projectSections.put(projectId, new MatrixProject(first.projectId(), first.projectName(),
+                first.teamId(), first.teamName(), developerRatings(levels)));
+    }
+
+    private void rebuildTeam(Long teamId) {
+        SortedMap<Long, SkillLevelChangedEvent> levels = rowsByTeam.get(teamId);
+        teamSections.put(teamId, new MatrixTeam(teamId, teamNames.get(teamId),
+                levels == null ? List.of() : developerRatings(levels.values())));
+    }
+
+    private List<DeveloperRating> developerRatings(Collection<SkillLevelChangedEvent> levels) {
+        Map<Long, List<SkillLevelChangedEvent>> byDeveloper = new LinkedHashMap<>();
+        for (SkillLevelChangedEvent l : levels) {
+            byDeveloper.computeIfAbsent(l.developerId(), k -> new ArrayList<>()).add(l);
+        }
+        List<DeveloperRating> devList = new ArrayList<>(byDeveloper.size());
+        for (List<SkillLevelChangedEvent> devLevels : byDeveloper.values()) {
+            SkillLevelChangedEvent first = devLevels.get(0);
+            int total = 0;
+            List<SkillRating> skills = new ArrayList<>(devLevels.size());
+            for (SkillLevelChangedEvent l : devLevels) {
+                skills.add(new SkillRating(l.componentName(), l.techStack(), l.projectName(), l.level()));
+                total += l.level();
+            }
+            double averageLevel = Math.round((double) total / devLevels.size() * 10.0) / 10.0;
+            devList.add(new DeveloperRating(first.developerId(), first.developerName(), first.email(),
+                    averageLevel, List.copyOf(skills)));
+        }
+        devList.sort((a, b) -> Double.compare(b.averageLevel(), a.averageLevel()));
+        return List.copyOf(devList);
+    }
+
+    private void publish() {
+        List<MatrixComponent> byComponent = new ArrayList<>(componentSections.values());
+        byComponent.sort(Comparator.comparing(MatrixComponent::componentName));
+        List<MatrixProject> byProject = new ArrayList<>(projectSections.values());
+        byProject.sort(Comparator.comparing(MatrixProject::projectName));
+        List<MatrixTeam> byTeam = new ArrayList<>(teamNames.size());
+        for (Long teamId : teamNames.keySet()) {
+            byTeam.add(teamSections.get(teamId));
+        }
+        snapshot = new SkillsMatrix(++version, List.copyOf(byComponent), List.copyOf(byProject), List.copyOf(byTeam));
+    }
+}
@@ -0,0 +1,125 @@
+-- Idempotent, so it also upgrades databases created by ddl-auto=update.
+
+create table if not exists app_users (
+    id bigint generated by default as identity primary key,
+    email varchar(255) not null unique,
+    password varchar(255),
+    full_name varchar(255),
+    role varchar(255) not null,
+    email_verified boolean not null default false,
+    verification_code varchar(255),
+    security_question varchar(255),
+    security_answer varchar(255),
+    active boolean not null default true,
+    created_at timestamp(6)
+);
+
+create table if not exists teams (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null unique,
+    description varchar(255),
+    created_at timestamp(6)
+);
+
+create table if not exists projects (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    description varchar(255),
+    created_at timestamp(6),
+    team_id bigint not null references teams
+);
+
+create table if not exists user_projects (
+    user_id bigint not null references app_users,
+    project_id bigint not null references projects,
+    primary key (user_id, project_id)
+);
+
+create table if not exists components (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    tech_stack varchar(255),
+    description varchar(255),
+    created_at timestamp(6),
+    project_id bigint not null references projects
+);
+
+create sequence if not exists questions_seq start with 1 increment by 50;
+
+create table if not exists questions (
+    id bigint primary key,
+    question_text varchar(2000) not null,
+    type varchar(255) not null,
+    difficulty_level integer not null,
+    component_id bigint not null references components,
+    options text[],
+    correct_answer varchar(2000),
+    created_at timestamp(6)
+);
+
+alter table questions add column if not exists options text[];
+
+create table if not exists assessments (
+    id bigint generated by default as identity primary key,
+    component_id bigint not null references components,
+    level integer not null,
+    pass_mark_percentage integer not null default 70,
+    number_of_questions integer not null default 10,
+    created_at timestamp(6),
+    created_by bigint references app_users
+);
+
+create sequence if not exists assessment_invites_seq start with 1 increment by 50;
+
+create table if not exists assessment_invites (
+    id bigint primary key,
+    developer_id bigint not null references app_users,
+    assessment_id bigint not null references assessments,
+    status varchar(255),
+    created_at timestamp(6),
+    completed_at timestamp(6)
+);
+
+create table if not exists assessment_attempts (
+    id bigint generated by default as identity primary key,
+    developer_id bigint not null references app_users,
+    assessment_id bigint not null references assessments,
+    score integer not null default 0,
+    total_questions integer not null default 0,
+    status varchar(255),
+    passed boolean not null default false,
+    started_at timestamp(6),
+    completed_at timestamp(6)
+);
+
+create table if not exists attempt_questions (
+    attempt_id bigint not null references assessment_attempts,
+    position integer not null,
+    question_id bigint not null,
+    primary key (attempt_id, position)
+);
+
+create sequence if not exists attempt_answers_seq start with 1 increment by 50;
+
+create table if not exists attempt_answers (
+    id bigint primary key,
+    attempt_id bigint not null references assessment_attempts,
+    question_id bigint not null references questions,
+    given_answer varchar(2000),
+    correct boolean not null default false,
+    reviewed boolean not null default false,
+    claimed_by bigint,
+    claim_expires_at timestamp(6)
+);
+
+alter table attempt_answers add column if not exists claimed_by bigint;
+alter table attempt_answers add column if not exists claim_expires_at timestamp(6);
+
+create table if not exists developer_levels (
+    id bigint generated by default as identity primary key,
+    developer_id bigint not null references app_users,
+    component_id bigint not null references components,
+    current_level integer not null default 0,
+    last_level_up_at timestamp(6),
+    created_at timestamp(6)
+);
@@ -0,0 +1,24 @@
+-- Move options from the old question_options side table into questions.options.
+-- That table was an @ElementCollection bag with no order column and no id, and
+-- Hibernate read it back without an ORDER BY. No stored order exists, so this keeps the
+-- physical order (ctid) that those unordered reads returned; answers are matched by text.
+do $$
+begin
+    if to_regclass('question_options') is not null then
+        update questions q
+        set options = coalesce((select array_agg(o.option_text order by o.ctid)
+                                from question_options o where o.question_id = q.id), '{}')
+        where q.options is null;
+        drop table question_options;
+    end if;
+end $$;
+
+update questions set options = '{}' where options is null;
+
+-- Start each new sequence past the ids issued by the old identity column.
+select setval('questions_seq', (select max(id) + 50 from questions))
+where (select last_value from questions_seq) < (select coalesce(max(id), 0) from questions);
+select setval('assessment_invites_seq', (select max(id) + 50 from assessment_invites))
+where (select last_value from assessment_invites_seq) < (select coalesce(max(id), 0) from assessment_invites);
+select setval('attempt_answers_seq', (select max(id) + 50 from attempt_answers))
+where (select last_value from attempt_answers_seq) < (select coalesce(max(id), 0) from attempt_answers);
@@ -0,0 +1,31 @@
+-- One level row per developer and component. Keep the highest level if duplicates exist.
+delete from developer_levels d
+using developer_levels keep
+where d.developer_id = keep.developer_id
+  and d.component_id = keep.component_id
+  and (d.current_level < keep.current_level
+       or (d.current_level = keep.current_level and d.id < keep.id));
+
+create unique index if not exists ux_developer_levels_developer_component
+    on developer_levels (developer_id, component_id);
+
+create index if not exists ix_questions_component_difficulty
+    on questions (component_id, difficulty_level);
+
+create index if not exists ix_assessment_attempts_developer_started
+    on assessment_attempts (developer_id, started_at desc);
+
+create index if not exists ix_assessment_attempts_status
+    on assessment_attempts (status);
+
+create index if not exists ix_assessment_invites_developer_status
+    on assessment_invites (developer_id, status);
+
+create index if not exists ix_attempt_answers_attempt
+    on attempt_answers (attempt_id);
+
+create index if not exists ix_attempt_answers_unreviewed
+    on attempt_answers (id) where reviewed = false;
+
+create index if not exists ix_user_projects_project
+    on user_projects (project_id);
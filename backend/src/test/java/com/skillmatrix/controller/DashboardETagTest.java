@@ -0,0 +1,75 @@
+package com.skillmatrix.controller;
+
+import com.skillmatrix.dto.SkillsMatrix;
+import com.skillmatrix.repository.*;
+import com.skillmatrix.service.ComponentCatalog;
+import com.skillmatrix.service.DataVersions;
+import com.skillmatrix.service.DeveloperDashboardService;
+import com.skillmatrix.service.QuestionPoolIndex;
+import com.skillmatrix.service.ReferenceDataCache;
+import com.skillmatrix.service.SkillsMatrixProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.web.header.HeaderWriterFilter;
+import org.springframework.security.web.header.writers.CacheControlHeadersWriter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class DashboardETagTest {
+    private final SkillsMatrixProjection skillsMatrix = mock(SkillsMatrixProjection.class);
+    private final DataVersions versions = new DataVersions();
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        when(skillsMatrix.snapshot()).thenReturn(new SkillsMatrix(1, List.of(), List.of(), List.of()));
+        DataController controller = new DataController(mock(TeamRepository.class), mock(ProjectRepository.class),
+                mock(ComponentRepository.class), mock(QuestionRepository.class), mock(AppUserRepository.class),
+                mock(AssessmentRepository.class), mock(DeveloperLevelRepository.class),
+                mock(AssessmentAttemptRepository.class), mock(AssessmentInviteRepository.class),
+                mock(AttemptAnswerRepository.class), skillsMatrix, mock(QuestionPoolIndex.class),
+                mock(ComponentCatalog.class), mock(ReferenceDataCache.class), versions,
+                mock(DeveloperDashboardService.class));
+        // Spring Security's default headers, which add no-store unless the controller sets Cache-Control.
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .addFilters(new HeaderWriterFilter(List.of(new CacheControlHeadersWriter())))
+                .build();
+    }
+
+    @Test
+    void secondRequestWithETagIsNotModified() throws Exception {
+        String etag = mvc.perform(get("/api/dashboard/skills-matrix"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        mvc.perform(get("/api/dashboard/skills-matrix").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        verify(skillsMatrix, times(1)).snapshot();
+    }
+
+    @Test
+    void bumpInvalidatesTheETag() throws Exception {
+        String etag = mvc.perform(get("/api/dashboard/skills-matrix"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        versions.bump();
+
+        mvc.perform(get("/api/dashboard/skills-matrix").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+}
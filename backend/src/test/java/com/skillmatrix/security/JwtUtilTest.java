@@ -0,0 +1,45 @@
+package com.skillmatrix.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+    private static final String SECRET = "test-secret-key-at-least-256-bits-long-0000000";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 100);
+
+    @Test
+    void authenticatesIssuedTokens() {
+        String token = jwtUtil.generateToken("dev@example.com", "DEVELOPER", 42L);
+
+        assertThat(jwtUtil.authenticate(token)).hasValueSatisfying(p -> {
+            assertThat(p.email()).isEqualTo("dev@example.com");
+            assertThat(p.userId()).isEqualTo(42L);
+        });
+        assertThat(jwtUtil.authenticate(token)).isPresent();
+    }
+
+    @Test
+    void rejectsSignedTokenWithoutExpiration() {
+        String token = Jwts.builder()
+                .subject("dev@example.com")
+                .claim("role", "DEVELOPER")
+                .claim("userId", 42L)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(jwtUtil.authenticate(token)).isEmpty();
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        String token = jwtUtil.generateToken("dev@example.com", "DEVELOPER", 42L);
+
+        assertThat(jwtUtil.authenticate(token.substring(0, token.length() - 2) + "xx")).isEmpty();
+    }
+}
@@ -0,0 +1,58 @@
+package com.skillmatrix.service;
+
+import com.skillmatrix.dto.AuthDtos.GradeAnswerRequest;
+import com.skillmatrix.entity.AssessmentAttempt;
+import com.skillmatrix.repository.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AssessmentServiceGradingTest {
+    private final AssessmentAttemptRepository attemptRepo = mock(AssessmentAttemptRepository.class);
+    private final AttemptAnswerRepository answerRepo = mock(AttemptAnswerRepository.class);
+    private final AssessmentService service = new AssessmentService(mock(AssessmentRepository.class),
+            mock(AssessmentInviteRepository.class), attemptRepo, mock(QuestionRepository.class), answerRepo,
+            mock(DeveloperLevelRepository.class), mock(AppUserRepository.class),
+            mock(ApplicationEventPublisher.class), mock(QuestionPoolIndex.class), new DataVersions());
+
+    @Test
+    void emptyGradeListIsRejectedWithoutTouchingTheAttempt() {
+        assertThatThrownBy(() -> service.gradeAnswers(1L, List.of(), 9L))
+                .hasMessage("No grades given");
+        verify(attemptRepo, never()).findForGradingById(anyLong());
+    }
+
+    @Test
+    void attemptsThatAreNotPendingReviewCannotBeGraded() {
+        for (AssessmentAttempt.AttemptStatus status : List.of(AssessmentAttempt.AttemptStatus.IN_PROGRESS,
+                AssessmentAttempt.AttemptStatus.GRADED)) {
+            AssessmentAttempt attempt = new AssessmentAttempt();
+            attempt.setId(1L);
+            attempt.setStatus(status);
+            when(attemptRepo.findForGradingById(1L)).thenReturn(Optional.of(attempt));
+
+            assertThatThrownBy(() -> service.gradeAnswers(1L, List.of(grade(5L, true)), 9L))
+                    .hasMessage("Attempt is not awaiting review");
+            assertThat(attempt.getStatus()).isEqualTo(status);
+        }
+        verify(answerRepo, never()).findByAttemptIdAndIdIn(anyLong(), any());
+    }
+
+    private static GradeAnswerRequest grade(Long answerId, boolean correct) {
+        GradeAnswerRequest req = new GradeAnswerRequest();
+        req.answerId = answerId;
+        req.correct = correct;
+        return req;
+    }
+}
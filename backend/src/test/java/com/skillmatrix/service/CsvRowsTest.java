@@ -0,0 +1,95 @@
+package com.skillmatrix.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class CsvRowsTest {
+
+    @Test
+    void quotedFieldKeepsSeparators() throws IOException {
+        List<QuestionImporter.Row> rows = read("componentId,questionText\n1,\"Pick one, or two\"\n");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).fields()).containsExactly(entry("componentId", "1"), entry("questionText", "Pick one, or two"));
+    }
+
+    @Test
+    void doubledQuotesBecomeOneQuote() throws IOException {
+        List<QuestionImporter.Row> rows = read("questionText\n\"Say \"\"hi\"\"\"\n");
+
+        assertThat(rows.get(0).fields()).containsEntry("questionText", "Say \"hi\"");
+    }
+
+    @Test
+    void quotedFieldKeepsLineBreaksAndCountsThem() throws IOException {
+        List<QuestionImporter.Row> rows = read("id,questionText\n1,\"line one\nline two\"\n2,next\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).line()).isEqualTo(2);
+        assertThat(rows.get(0).fields()).containsEntry("questionText", "line one\nline two");
+        assertThat(rows.get(1).line()).isEqualTo(4);
+        assertThat(rows.get(1).fields()).containsEntry("questionText", "next");
+    }
+
+    @Test
+    void crlfLineEndingsAreNotPartOfValues() throws IOException {
+        List<QuestionImporter.Row> rows = read("id,type\r\n1,MCQ\r\n2,FILL_IN_BLANK\r\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).fields()).containsExactly(entry("id", "1"), entry("type", "MCQ"));
+        assertThat(rows.get(1).line()).isEqualTo(3);
+        assertThat(rows.get(1).fields()).containsEntry("type", "FILL_IN_BLANK");
+    }
+
+    @Test
+    void blankLinesAreSkippedButCounted() throws IOException {
+        List<QuestionImporter.Row> rows = read(" id , type \n\n1,MCQ\n\n\n2,MCQ");
+
+        assertThat(rows).extracting(QuestionImporter.Row::line).containsExactly(3L, 6L);
+        assertThat(rows.get(0).fields()).containsOnlyKeys("id", "type");
+    }
+
+    @Test
+    void oversizedRecordIsRejectedAndReadingContinues() throws IOException {
+        String huge = "x".repeat(QuestionImporter.MAX_RECORD_LENGTH + 1);
+        List<QuestionImporter.Row> rows = read("id,questionText\n1,\"" + huge + "\n" + huge + "\"\n2,fine\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).line()).isEqualTo(2);
+        assertThat(rows.get(0).error()).contains("longer than");
+        assertThat(rows.get(1).line()).isEqualTo(4);
+        assertThat(rows.get(1).fields()).containsEntry("questionText", "fine");
+    }
+
+    @Test
+    void byteOrderMarkIsSkipped() throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader("\uFEFFid\n1\n"));
+        QuestionImporter.skipByteOrderMark(reader);
+
+        List<QuestionImporter.Row> rows = read(reader);
+
+        assertThat(rows.get(0).fields()).containsExactly(entry("id", "1"));
+    }
+
+    private static List<QuestionImporter.Row> read(String csv) throws IOException {
+        return read(new BufferedReader(new StringReader(csv)));
+    }
+
+    private static List<QuestionImporter.Row> read(BufferedReader reader) throws IOException {
+        QuestionImporter.CsvRows source = new QuestionImporter.CsvRows(reader);
+        List<QuestionImporter.Row> rows = new ArrayList<>();
+        QuestionImporter.Row row;
+        while ((row = source.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
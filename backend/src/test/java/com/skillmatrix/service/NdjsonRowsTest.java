@@ -0,0 +1,63 @@
+package com.skillmatrix.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonRowsTest {
+
+    @Test
+    void eachLineIsOneRecord() throws IOException {
+        List<QuestionImporter.Row> rows = read("{\"componentId\":1,\"type\":\"MCQ\"}\r\n{\"componentId\":2}\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).fields()).containsEntry("type", "MCQ");
+        assertThat(rows.get(1).line()).isEqualTo(2);
+        assertThat(rows.get(1).error()).isNull();
+    }
+
+    @Test
+    void malformedLineIsRejectedAndReadingContinues() throws IOException {
+        List<QuestionImporter.Row> rows = read("{\"componentId\":1\n{\"componentId\":2}\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).line()).isEqualTo(1);
+        assertThat(rows.get(0).error()).isEqualTo("Malformed JSON");
+        assertThat(rows.get(0).fields()).isEmpty();
+        assertThat(rows.get(1).fields()).containsKey("componentId");
+    }
+
+    @Test
+    void oversizedLineIsRejectedWithoutBufferingItAndReadingContinues() throws IOException {
+        String huge = "{\"questionText\":\"" + "x".repeat(QuestionImporter.MAX_RECORD_LENGTH) + "\"}";
+        List<QuestionImporter.Row> rows = read(huge + "\n{\"componentId\":3}\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).error()).contains("longer than");
+        assertThat(rows.get(1).line()).isEqualTo(2);
+        assertThat(rows.get(1).fields()).containsKey("componentId");
+    }
+
+    @Test
+    void blankLinesAreSkippedButCounted() throws IOException {
+        List<QuestionImporter.Row> rows = read("\n   \n{\"componentId\":1}");
+
+        assertThat(rows).extracting(QuestionImporter.Row::line).containsExactly(3L);
+    }
+
+    private static List<QuestionImporter.Row> read(String ndjson) throws IOException {
+        QuestionImporter.NdjsonRows source = new QuestionImporter.NdjsonRows(new BufferedReader(new StringReader(ndjson)));
+        List<QuestionImporter.Row> rows = new ArrayList<>();
+        QuestionImporter.Row row;
+        while ((row = source.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,133 @@
+package com.skillmatrix.service;
+
+import com.skillmatrix.dto.ImportSummary;
+import com.skillmatrix.entity.Component;
+import com.skillmatrix.entity.Question;
+import com.skillmatrix.repository.ComponentRepository;
+import com.skillmatrix.repository.QuestionRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QuestionImporterTest {
+    private static final String HEADER = "componentId,questionText,type,difficultyLevel,correctAnswer,options\n";
+
+    private final QuestionRepository questionRepo = mock(QuestionRepository.class);
+    private final ComponentRepository componentRepo = mock(ComponentRepository.class);
+    private final QuestionPoolIndex questionPool = mock(QuestionPoolIndex.class);
+    private final QuestionImporter importer = new QuestionImporter(questionRepo, componentRepo, questionPool,
+            mock(ComponentCatalog.class), new DataVersions(), mock(PlatformTransactionManager.class));
+    private final List<Question> saved = new ArrayList<>();
+    private final List<String> rejected = new ArrayList<>();
+
+    private final QuestionImporter.Listener listener = new QuestionImporter.Listener() {
+        @Override
+        public void rowRejected(long line, String message) {
+            rejected.add(line + ": " + message);
+        }
+
+        @Override
+        public void chunkCommitted(ImportSummary progress) {
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(importer, "entityManager", mock(EntityManager.class));
+        when(componentRepo.existsById(anyLong())).thenReturn(true);
+        when(componentRepo.getReferenceById(anyLong())).thenAnswer(inv -> {
+            Component component = new Component();
+            component.setId(inv.getArgument(0));
+            return component;
+        });
+        when(questionRepo.saveAll(any())).thenAnswer(inv -> {
+            inv.<Iterable<Question>>getArgument(0).forEach(saved::add);
+            return List.of();
+        });
+    }
+
+    @Test
+    void invalidRowsAreRejectedWithTheirLineAndReason() {
+        ImportSummary summary = importer.importQuestions(new StringReader(HEADER +
+                "1,Essay?,ESSAY,3,x,\n" +
+                "1,Too easy?,MCQ,0,a,a|b\n" +
+                "1,Too hard?,MCQ,11,a,a|b\n" +
+                "1,Which one?,MCQ,3,c,a|b\n" +
+                "1,Fill in ___,FILL_IN_BLANK,3,word,\n"), QuestionImporter.Format.CSV, null, listener);
+
+        assertThat(summary).isEqualTo(new ImportSummary(5, 1, 0, 4));
+        assertThat(rejected).containsExactly(
+                "2: type must be one of [MCQ, FILL_IN_BLANK]",
+                "3: difficultyLevel must be between 1 and 10",
+                "4: difficultyLevel must be between 1 and 10",
+                "5: correctAnswer must be one of the options");
+        assertThat(saved).extracting(Question::getType).containsExactly(Question.QuestionType.FILL_IN_BLANK);
+    }
+
+    @Test
+    void duplicatesAreCountedPerComponent() {
+        when(questionRepo.findTextsByComponentId(1L)).thenReturn(List.of("Already  stored?"));
+
+        ImportSummary summary = importer.importQuestions(new StringReader(HEADER +
+                "1,already stored?,FILL_IN_BLANK,2,x,\n" +
+                "1,New one?,FILL_IN_BLANK,2,x,\n" +
+                "1,  new   ONE?,FILL_IN_BLANK,2,x,\n" +
+                "2,New one?,FILL_IN_BLANK,2,x,\n"), QuestionImporter.Format.CSV, null, listener);
+
+        assertThat(summary).isEqualTo(new ImportSummary(4, 2, 2, 0));
+        assertThat(saved).extracting(q -> q.getComponent().getId()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void failureReportsTheRowsAlreadyCommitted() {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 500; i++) {
+            csv.append("1,Question ").append(i).append("?,FILL_IN_BLANK,2,x,\n");
+        }
+
+        assertThatThrownBy(() -> importer.importQuestions(new FailingAtEnd(csv.toString()),
+                QuestionImporter.Format.CSV, null, listener))
+                .isInstanceOfSatisfying(ImportFailedException.class, e -> {
+                    assertThat(e).hasMessage("connection reset");
+                    assertThat(e.getProgress()).isEqualTo(new ImportSummary(500, 500, 0, 0));
+                });
+        assertThat(saved).hasSize(500);
+        verify(questionPool).invalidate(1L);
+    }
+
+    /** Serves the text, then fails the way a dropped upload does. */
+    private static final class FailingAtEnd extends Reader {
+        private final StringReader text;
+
+        FailingAtEnd(String text) {
+            this.text = new StringReader(text);
+        }
+
+        @Override
+        public int read(char[] buf, int off, int len) throws IOException {
+            int n = text.read(buf, off, len);
+            if (n == -1) throw new IOException("connection reset");
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.skillmatrix.service;
+
+import com.skillmatrix.dto.MatrixTeam;
+import com.skillmatrix.entity.Team;
+import com.skillmatrix.event.ReferenceDataChangedEvent;
+import com.skillmatrix.repository.DeveloperLevelRepository;
+import com.skillmatrix.repository.TeamRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SkillsMatrixProjectionTest {
+    private final DeveloperLevelRepository levelRepo = mock(DeveloperLevelRepository.class);
+    private final TeamRepository teamRepo = mock(TeamRepository.class);
+    private final SkillsMatrixProjection projection = new SkillsMatrixProjection(levelRepo, teamRepo);
+
+    @Test
+    void referenceDataChangesReloadRenamedAndNewTeams() {
+        when(levelRepo.findAllForMatrix()).thenReturn(List.of());
+        when(teamRepo.findAll()).thenReturn(List.of(team(1L, "Platform")));
+        long before = projection.snapshot().version();
+
+        when(teamRepo.findAll()).thenReturn(List.of(team(1L, "Core Platform"), team(2L, "Data")));
+        projection.onReferenceDataChanged(new ReferenceDataChangedEvent("team"));
+
+        assertThat(projection.snapshot().version()).isGreaterThan(before);
+        assertThat(projection.snapshot().byTeam()).extracting(MatrixTeam::teamName)
+                .containsExactly("Core Platform", "Data");
+    }
+
+    private static Team team(Long id, String name) {
+        Team team = new Team();
+        team.setId(id);
+        team.setName(name);
+        return team;
+    }
+}
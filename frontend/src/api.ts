@@ -1,4 +1,5 @@
 const API_BASE = '/api';
+const revalidated = new Map<string, { etag: string; data: any }>();
 
 function getToken(): string | null {
   return localStorage.getItem('token');
@@ -10,6 +11,7 @@ export function setToken(token: string) {
 
 export function clearToken() {
   localStorage.removeItem('token');
+  revalidated.clear();
 }
 
 async function request(path: string, options: RequestInit = {}) {
@@ -38,6 +40,37 @@ async function request(path: string, options: RequestInit = {}) {
   return data;
 }
 
+async function conditionalRequest(path: string) {
+  const token = getToken();
+  const headers: Record<string, string> = {};
+  if (token) {
+    headers['Authorization'] = `Bearer ${token}`;
+  }
+  const cached = revalidated.get(path);
+  if (cached) {
+    headers['If-None-Match'] = cached.etag;
+  }
+  const res = await fetch(`${API_BASE}${path}`, { headers });
+  if (res.status === 304 && cached) {
+    return cached.data;
+  }
+  const text = await res.text();
+  let data: any;
+  try {
+    data = text ? JSON.parse(text) : {};
+  } catch {
+    throw new Error(`Server error (${res.status})`);
+  }
+  if (!res.ok) {
+    throw new Error(data.error || data.message || 'Request failed');
+  }
+  const etag = res.headers.get('ETag');
+  if (etag) {
+    revalidated.set(path, { etag, data });
+  }
+  return data;
+}
+
 export async function login(email: string, password: string) {
   return request('/auth/login', {
     method: 'POST',
@@ -78,15 +111,15 @@ export async function getSecurityQuestion(email: string) {
 }
 
 export async function getAdminDashboard() {
-  return request('/dashboard/admin');
+  return conditionalRequest('/dashboard/admin');
 }
 
 export async function getSkillsMatrix() {
-  return request('/dashboard/skills-matrix');
+  return conditionalRequest('/dashboard/skills-matrix');
 }
 
 export async function getDeveloperDashboard(userId: number) {
-  return request(`/dashboard/developer/${userId}`);
+  return conditionalRequest(`/dashboard/developer/${userId}`);
 }
 
 export async function getTeams() {